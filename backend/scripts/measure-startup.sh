@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+# 백엔드 시작 시간 측정: 일반 모드 vs 빠른 시작 모드(Spring AOT + AppCDS + fast-start 프로필)
+#
+# 같은 이미지, 같은 MySQL 컨테이너로 모드마다 RUNS번씩 새 컨테이너를 띄우고
+# "Started BackendApplication in X seconds (process running for Y)" 로그의 Y(JVM 시작부터 준비 완료까지)를 모읍니다.
+# 일반 모드를 먼저 실행하므로 첫 실행에서 ddl-auto=update로 스키마가 만들어지고, 빠른 시작 모드는 그 스키마를 검증만 합니다.
+#
+# 사용: backend/scripts/measure-startup.sh [RUNS]   (기본 5회, docker 필요)
+#   IMAGE=pharmacy-backend:startup  측정할 이미지 (없으면 backend/ 에서 빌드)
+#   CPUS=2                          컨테이너 CPU 제한 (운영 인스턴스와 비슷하게 맞춰 측정)
+set -euo pipefail
+
+RUNS="${1:-5}"
+IMAGE="${IMAGE:-pharmacy-backend:startup}"
+CPUS="${CPUS:-2}"
+NETWORK="pharmacy-startup-bench"
+DB="pharmacy-startup-db"
+BACKEND_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+
+cleanup() {
+  docker rm -f "$DB" >/dev/null 2>&1 || true
+  docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+if ! docker image inspect "$IMAGE" >/dev/null 2>&1; then
+  echo "=== 이미지 빌드: $IMAGE ==="
+  docker build -t "$IMAGE" "$BACKEND_DIR"
+fi
+
+echo "=== MySQL 시작 ==="
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB" --network "$NETWORK" \
+  -e MYSQL_ROOT_PASSWORD=bench -e MYSQL_DATABASE=pharmacy_db \
+  mysql:8.0 >/dev/null
+until docker exec "$DB" mysqladmin ping -h localhost -pbench --silent >/dev/null 2>&1; do
+  sleep 1
+done
+
+# 한 번 띄워서 준비 완료 로그가 나오면 process running for 값을 출력하고 컨테이너 종료
+measure() {
+  local profiles="$1" java_opts="$2" name="pharmacy-startup-run" seconds=""
+  docker run -d --name "$name" --network "$NETWORK" --cpus "$CPUS" \
+    -e SPRING_PROFILES_ACTIVE="$profiles" \
+    -e JAVA_OPTS="$java_opts" \
+    -e SPRING_DATASOURCE_URL="jdbc:mysql://$DB:3306/pharmacy_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC" \
+    -e SPRING_DATASOURCE_USERNAME=root -e SPRING_DATASOURCE_PASSWORD=bench \
+    -e APP_SEARCH_LOG_WARM_UP_ENABLED=false \
+    "$IMAGE" >/dev/null
+  for _ in $(seq 1 240); do
+    seconds="$(docker logs "$name" 2>&1 | sed -n 's/.*Started BackendApplication in .* (process running for \([0-9.]*\)).*/\1/p' | head -1)"
+    if [ -n "$seconds" ]; then
+      break
+    fi
+    if [ "$(docker inspect -f '{{.State.Running}}' "$name")" != "true" ]; then
+      docker logs "$name" 2>&1 | tail -30 >&2
+      break
+    fi
+    sleep 0.5
+  done
+  docker rm -f "$name" >/dev/null
+  if [ -z "$seconds" ]; then
+    echo "시작 실패 ($profiles)" >&2
+    exit 1
+  fi
+  echo "$seconds"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2 ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+  local label="$1" profiles="$2" java_opts="$3" results=()
+  for i in $(seq 1 "$RUNS"); do
+    results+=("$(measure "$profiles" "$java_opts")")
+    echo "  $label #$i: ${results[-1]}s"
+  done
+  printf '%s\n' "${results[@]}" | median > "/tmp/pharmacy-startup-$label"
+}
+
+echo "=== 일반 모드 (AOT/AppCDS 없음, ddl-auto=update) ==="
+run_mode default "local" ""
+echo "=== 빠른 시작 모드 (AOT + AppCDS, ddl-auto=validate) ==="
+run_mode fast-start "local,fast-start" "-XX:SharedArchiveFile=/app/extracted/application.jsa -Dspring.aot.enabled=true"
+
+echo "=== 결과 (중앙값, JVM 시작 → 준비 완료) ==="
+echo "일반 모드:      $(cat /tmp/pharmacy-startup-default)s"
+echo "빠른 시작 모드: $(cat /tmp/pharmacy-startup-fast-start)s"
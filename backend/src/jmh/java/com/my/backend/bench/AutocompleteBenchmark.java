@@ -0,0 +1,69 @@
+package com.my.backend.bench;
+
+import com.my.backend.autocomplete.AddressSuggestIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주소 자동완성 인덱스: 글자 하나 입력마다의 조회(suggest)와 재구성(build) 비용.
+ * 주소는 "시 구 동 번지" 형태를 무작위로 만들어 max-entries 기본값(10만)만큼 넣습니다.
+ * query는 범위가 넓은 입력(한 글자, 자모가 덜 끝난 음절), 좁은 입력(어절 중간부터), 맞는 것이 없는 입력입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutocompleteBenchmark {
+
+    private static final String[] CITIES = {"서울", "부산", "대구", "인천", "광주", "대전", "경기 성남시", "경기 수원시"};
+    private static final String[] DISTRICTS = {"강남구", "강북구", "서초구", "송파구", "해운대구", "분당구", "중구", "동구",
+            "수성구", "연수구", "유성구", "장안구"};
+    private static final String[] STREETS = {"역삼동", "삼성동", "테헤란로", "도봉로", "우동", "정자동", "세종대로", "중앙로",
+            "범어동", "송도동", "봉명동", "영화동", "논현로", "올림픽로", "판교역로"};
+    private static final int SUGGEST_LIMIT = 10;
+
+    @Param({"100000"})
+    public int entries;
+
+    @Param({"서", "강나", "테헤란로 4", "역삼동 73", "없는주소"})
+    public String query;
+
+    private List<AddressSuggestIndex.Entry> candidates;
+    private AddressSuggestIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        candidates = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            String address = CITIES[random.nextInt(CITIES.length)] + ' '
+                    + DISTRICTS[random.nextInt(DISTRICTS.length)] + ' '
+                    + STREETS[random.nextInt(STREETS.length)] + ' ' + i;
+            candidates.add(new AddressSuggestIndex.Entry(address, 37.5, 127.0, random.nextInt(100)));
+        }
+        index = AddressSuggestIndex.build(candidates, entries, 6);
+    }
+
+    @Benchmark
+    public List<AddressSuggestIndex.Entry> suggest() {
+        return index.suggest(query, SUGGEST_LIMIT);
+    }
+
+    // 재구성은 query와 관계없으므로 -p query=서 처럼 하나만 골라 실행
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public AddressSuggestIndex build() {
+        return AddressSuggestIndex.build(candidates, entries, 6);
+    }
+}
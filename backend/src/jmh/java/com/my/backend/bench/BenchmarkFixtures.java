@@ -0,0 +1,45 @@
+package com.my.backend.bench;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.dto.KakaoApiResponseDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 벤치마크 공용 픽스처: 실제 카카오 응답 형태의 JSON과 스프링 기본 설정과 같은 ObjectMapper.
+ */
+final class BenchmarkFixtures {
+
+    static final String CATEGORY_RESPONSE = "/kakao-category-response.json";
+    static final String ADDRESS_RESPONSE = "/kakao-address-response.json";
+
+    private BenchmarkFixtures() {
+    }
+
+    // 스프링 부트 기본 ObjectMapper와 같이 모르는 필드는 무시
+    static ObjectMapper objectMapper() {
+        return new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    static byte[] load(String resource) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 리소스 없음: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static KakaoApiResponseDto parse(String resource) {
+        try {
+            return objectMapper().readValue(load(resource), KakaoApiResponseDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.my.backend.bench;
+
+import com.my.backend.geo.CoverageGrid;
+import com.my.backend.geo.GeoUtils;
+import com.my.backend.geo.PharmacyPointSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커버리지 분석 커널: 서울 크기 영역(약 33km x 35km)을 100m 격자(약 12만 셀)로 나눠 반경 500m 기준으로 계산.
+ * 약국은 영역 안에 무작위로 둡니다. parallelism 1과 코어 수(0)를 비교하면 fork/join 확장성을 볼 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CoverageBenchmark {
+
+    private static final double SOUTH = 37.42;
+    private static final double WEST = 126.76;
+    private static final double NORTH = 37.72;
+    private static final double EAST = 127.18;
+    private static final double RADIUS_METERS = 500;
+
+    @Param({"5000", "20000"})
+    public int pharmacies;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private PharmacyPointSet points;
+    private CoverageGrid grid;
+    private int[] nearest;
+    private int[] counts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        Random random = new Random(42);
+        double[] latitudes = new double[pharmacies];
+        double[] longitudes = new double[pharmacies];
+        for (int i = 0; i < pharmacies; i++) {
+            latitudes[i] = SOUTH + random.nextDouble() * (NORTH - SOUTH);
+            longitudes[i] = WEST + random.nextDouble() * (EAST - WEST);
+        }
+        points = PharmacyPointSet.of(latitudes, longitudes, pharmacies, RADIUS_METERS / GeoUtils.METERS_PER_DEGREE_LATITUDE);
+        grid = CoverageGrid.of(SOUTH, WEST, NORTH, EAST, 100);
+        nearest = new int[(int) grid.cells()];
+        counts = new int[(int) grid.cells()];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] cityGrid() {
+        points.measureRows(grid, 0, grid.rows(), RADIUS_METERS, 20_000, nearest, counts, pool);
+        return counts;
+    }
+}
@@ -0,0 +1,53 @@
+package com.my.backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.my.backend.client.KakaoResponseParser;
+import com.my.backend.dto.KakaoApiResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 카테고리 검색 응답(15건) 역직렬화 비용.
+ * databind(기존 ObjectMapper 바인딩)와 KakaoResponseParser 스트리밍 파싱을 gc.alloc.rate.norm으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KakaoResponseParsingBenchmark {
+
+    private byte[] payload;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() {
+        payload = BenchmarkFixtures.load(BenchmarkFixtures.CATEGORY_RESPONSE);
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        reader = objectMapper.readerFor(KakaoApiResponseDto.class);
+    }
+
+    @Benchmark
+    public KakaoApiResponseDto databind() throws IOException {
+        return reader.readValue(payload);
+    }
+
+    // 카테고리 검색: 한 페이지 전체를 읽되 사용하는 필드만
+    @Benchmark
+    public KakaoApiResponseDto streamingFullPage() throws IOException {
+        return KakaoResponseParser.parse(payload, Integer.MAX_VALUE);
+    }
+
+    // 앞의 3건만 필요한 경우 (나머지 documents는 토큰만 건너뜀)
+    @Benchmark
+    public KakaoApiResponseDto streamingTopThree() throws IOException {
+        return KakaoResponseParser.parse(payload, 3);
+    }
+}
@@ -0,0 +1,75 @@
+package com.my.backend.bench;
+
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.OutputDto;
+import com.my.backend.service.PharmacyOutputMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DocumentDto → OutputDto 변환 (길찾기/로드뷰 URL 생성, 거리 포맷팅) 비용.
+ * legacy*는 String.join / 문자열 연결 / String.format을 쓰던 이전 구현으로, 할당량 비교 기준입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutputMappingBenchmark {
+
+    private List<DocumentDto> documents;
+
+    @Setup
+    public void setUp() {
+        documents = BenchmarkFixtures.parse(BenchmarkFixtures.CATEGORY_RESPONSE).getDocumentList();
+    }
+
+    // 한 번의 검색에서 변환하는 양(기본 3건)
+    @Benchmark
+    public void mapTopThree(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(PharmacyOutputMapper.toOutputDto(documents.get(i)));
+        }
+    }
+
+    @Benchmark
+    public OutputDto mapOne() {
+        return PharmacyOutputMapper.toOutputDto(documents.get(0));
+    }
+
+    @Benchmark
+    public void legacyMapTopThree(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(legacyToOutputDto(documents.get(i)));
+        }
+    }
+
+    @Benchmark
+    public OutputDto legacyMapOne() {
+        return legacyToOutputDto(documents.get(0));
+    }
+
+    private static OutputDto legacyToOutputDto(DocumentDto documentDto) {
+        String mapUrlParams = String.join(",",
+                documentDto.getPlaceName(),
+                String.valueOf(documentDto.getLatitude()),
+                String.valueOf(documentDto.getLongitude()));
+
+        return OutputDto.builder()
+                .pharmacyName(documentDto.getPlaceName())
+                .pharmacyAddress(documentDto.getAddressName())
+                .directionURL("https://map.kakao.com/link/to/" + mapUrlParams)
+                .roadViewURL("https://map.kakao.com/link/roadview/" + documentDto.getLatitude() + "," + documentDto.getLongitude())
+                .distance(String.format("%.2f m", documentDto.getDistance()))
+                .latitude(documentDto.getLatitude())
+                .longitude(documentDto.getLongitude())
+                .build();
+    }
+}
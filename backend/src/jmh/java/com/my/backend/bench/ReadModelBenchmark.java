@@ -0,0 +1,117 @@
+package com.my.backend.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.BackendApplication;
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.event.PharmacyChangedEvent;
+import com.my.backend.readmodel.PharmacyReadModel;
+import com.my.backend.repository.PharmacyJdbcRepository;
+import com.my.backend.service.PharmacyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 응답 본문 생성 비용: JPA 조회 + Jackson 직렬화(jpa*) vs 읽기 모델 스냅샷(readModel*).
+ * DB는 MySQL 모드 H2 인메모리이므로 실제 MySQL 대비 jpa* 쪽의 네트워크 왕복 비용은 빠져 있습니다.
+ * readModelAll은 스냅샷이 바뀐 직후 첫 요청만 본문을 만들고 이후에는 같은 바이트를 돌려주므로,
+ * 스냅샷 교체 직후 비용은 readModelAllAfterWrite로 따로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadModelBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "20000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private PharmacyService pharmacyService;
+    private PharmacyReadModel pharmacyReadModel;
+    private ObjectMapper objectMapper;
+    private Pharmacy updated;
+    private long middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class).run(
+                "--spring.profiles.active=common",
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--MY_KAKAO_KEY=bench",
+                "--spring.datasource.url=jdbc:h2:mem:readmodel;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop");
+        pharmacyService = context.getBean(PharmacyService.class);
+        pharmacyReadModel = context.getBean(PharmacyReadModel.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        List<Pharmacy> pharmacies = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            pharmacies.add(Pharmacy.builder()
+                    .name("벤치약국" + i)
+                    .address("서울특별시 강남구 테헤란로 " + i)
+                    .distance(0.0)
+                    .latitude(37.5 + i * 1e-5)
+                    .longitude(127.0 + i * 1e-5)
+                    .build());
+        }
+        context.getBean(PharmacyJdbcRepository.class).importAll(pharmacies);
+        pharmacyReadModel.rebuild();
+
+        updated = pharmacyService.getAllPharmacies().get(rows / 2);
+        middleCursor = updated.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] jpaAll() throws IOException {
+        return objectMapper.writeValueAsBytes(pharmacyService.getAllPharmacies());
+    }
+
+    @Benchmark
+    public byte[] readModelAll() {
+        return pharmacyReadModel.snapshot().allJson();
+    }
+
+    // 한 행이 바뀐 뒤(DB에서 그 행을 다시 읽어 copy-on-write 교체) 전체 목록 요청 한 번
+    @Benchmark
+    public byte[] readModelAllAfterWrite() {
+        pharmacyReadModel.onPharmacyChanged(PharmacyChangedEvent.upserted(List.of(updated)));
+        return pharmacyReadModel.snapshot().allJson();
+    }
+
+    @Benchmark
+    public byte[] jpaPage() throws IOException {
+        return objectMapper.writeValueAsBytes(pharmacyService.getPharmacyPage(middleCursor, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public byte[] readModelPage() {
+        return pharmacyReadModel.snapshot().pageJson(middleCursor, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,128 @@
+package com.my.backend.bench;
+
+import com.my.backend.BackendApplication;
+import com.my.backend.client.KakaoApiClient;
+import com.my.backend.client.KakaoAsyncApiClient;
+import com.my.backend.client.KakaoRateLimiter;
+import com.my.backend.client.KakaoResponseParser;
+import com.my.backend.dto.KakaoApiResponseDto;
+import com.my.backend.dto.OutputDto;
+import com.my.backend.service.PharmacyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PharmacyService.searchAndSavePharmacies 전체 경로.
+ * 카카오는 미리 파싱해 둔 응답을 돌려주는 스텁으로, DB는 MySQL 모드 H2 인메모리로 대체합니다.
+ * - cold: 캐시와 로컬 인덱스 응답을 끄고 매번 카카오 스텁 호출 + DB upsert
+ * - warm: 기본 설정 (주소/카테고리 캐시와 로컬 인덱스 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchPipelineBenchmark {
+
+    @Param({"cold", "warm"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private PharmacyService pharmacyService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=common",
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--MY_KAKAO_KEY=bench",
+                "--app.search-log.enabled=false",
+                "--app.search-log.warm-up.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop"));
+        if ("cold".equals(mode)) {
+            // TTL 0이면 캐시에 저장하지 않음
+            args.add("--app.cache.geocode.ttl-ms=0");
+            args.add("--app.cache.geocode.negative-ttl-ms=0");
+            args.add("--app.cache.category.ttl-ms=0");
+            args.add("--app.search.local-min-results=0");
+        }
+
+        context = new SpringApplicationBuilder(BackendApplication.class, StubKakaoConfig.class)
+                .run(args.toArray(String[]::new));
+        pharmacyService = context.getBean(PharmacyService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<OutputDto> searchAndSave() {
+        return pharmacyService.searchAndSavePharmacies("서울특별시 강남구 테헤란로 405");
+    }
+
+    @Configuration
+    static class StubKakaoConfig {
+
+        @Bean
+        @Primary
+        KakaoApiClient stubKakaoApiClient() {
+            return new StubKakaoApiClient(
+                    BenchmarkFixtures.load(BenchmarkFixtures.ADDRESS_RESPONSE),
+                    BenchmarkFixtures.load(BenchmarkFixtures.CATEGORY_RESPONSE));
+        }
+    }
+
+    // 경로에 따라 주소/카테고리 응답 본문을 파싱해 반환하는 카카오 스텁 (네트워크만 빼고 파싱 비용은 포함)
+    static class StubKakaoApiClient extends KakaoApiClient {
+
+        private final byte[] addressResponse;
+        private final byte[] categoryResponse;
+
+        StubKakaoApiClient(byte[] addressResponse, byte[] categoryResponse) {
+            // URI 생성에만 쓰고 요청은 보내지 않음
+            super(new KakaoAsyncApiClient(HttpClient.newHttpClient(), new SimpleMeterRegistry(),
+                    new KakaoRateLimiter(new SimpleMeterRegistry(), 0, 0), "bench", "http://kakao-stub", 3000, 0, 0));
+            this.addressResponse = addressResponse;
+            this.categoryResponse = categoryResponse;
+        }
+
+        @Override
+        public KakaoApiResponseDto get(URI uri, int maxDocuments) {
+            byte[] body = uri.getPath().endsWith("/address.json") ? addressResponse : categoryResponse;
+            try {
+                return KakaoResponseParser.parse(body, maxDocuments);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.my.backend.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * /v2/local/search/address.json, /v2/local/search/category.json 을 흉내 내는 내장 카카오 스텁 서버.
+ * 응답마다 지연 분포에 따라 대기하고, errorRate 확률로 errorStatus를 반환합니다.
+ * 주소는 문자열 해시로 서울 범위 좌표를 만들고, 카테고리 검색은 요청 좌표 주변에 약국을 생성합니다.
+ */
+class KakaoStubServer {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final int errorStatus;
+
+    private final AtomicLong addressRequests = new AtomicLong();
+    private final AtomicLong categoryRequests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    KakaoStubServer(LatencyDistribution latency, double errorRate, int errorStatus) throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/v2/local/search/address.json", exchange -> handle(exchange, true));
+        server.createContext("/v2/local/search/category.json", exchange -> handle(exchange, false));
+    }
+
+    void start() {
+        server.start();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long getAddressRequests() {
+        return addressRequests.get();
+    }
+
+    long getCategoryRequests() {
+        return categoryRequests.get();
+    }
+
+    long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    private void handle(HttpExchange exchange, boolean address) throws IOException {
+        (address ? addressRequests : categoryRequests).incrementAndGet();
+        try {
+            Thread.sleep(Math.max(0, latency.nextMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, errorStatus, "{\"errorType\":\"InjectedError\",\"message\":\"stub\"}");
+            return;
+        }
+
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        respond(exchange, 200, address ? addressBody(query.getOrDefault("query", "")) : categoryBody(query));
+    }
+
+    private static String addressBody(String query) {
+        int hash = query.hashCode() & 0x7FFFFFFF;
+        double latitude = 37.45 + (hash % 1000) / 5000.0;
+        double longitude = 126.85 + ((hash / 1000) % 1000) / 2500.0;
+        return String.format(Locale.ROOT,
+                "{\"documents\":[{\"address_name\":\"%s\",\"x\":\"%.6f\",\"y\":\"%.6f\"}],"
+                        + "\"meta\":{\"is_end\":true,\"pageable_count\":1,\"total_count\":1}}",
+                query.replace("\"", ""), longitude, latitude);
+    }
+
+    // 요청 좌표에서 북동쪽으로 조금씩 떨어진 약국 15건 (거리순)
+    private static String categoryBody(Map<String, String> query) {
+        double latitude = Double.parseDouble(query.getOrDefault("y", "37.5"));
+        double longitude = Double.parseDouble(query.getOrDefault("x", "127.0"));
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+        int size = Integer.parseInt(query.getOrDefault("size", "15"));
+        StringBuilder body = new StringBuilder(4096).append("{\"documents\":[");
+        for (int i = 0; i < size; i++) {
+            int n = (page - 1) * size + i + 1;
+            double distance = n * 40.0;
+            double offset = distance / 111_320.0 / Math.sqrt(2);
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(String.format(Locale.ROOT,
+                    "{\"place_name\":\"스텁약국 %d-%d\",\"address_name\":\"스텁시 %.4f,%.4f %d번지\","
+                            + "\"x\":\"%.7f\",\"y\":\"%.7f\",\"distance\":\"%d\"}",
+                    (int) (latitude * 1000), n, latitude, longitude, n,
+                    longitude + offset, latitude + offset, (long) distance));
+        }
+        body.append("],\"meta\":{\"is_end\":").append(page >= 3)
+                .append(",\"pageable_count\":45,\"total_count\":45}}");
+        return body.toString();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
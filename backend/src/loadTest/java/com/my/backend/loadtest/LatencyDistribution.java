@@ -0,0 +1,37 @@
+package com.my.backend.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 카카오 스텁 응답 지연 분포.
+ * - fixed:MS
+ * - uniform:MIN_MS:MAX_MS
+ * - lognormal:MEDIAN_MS:P99_MS (실제 외부 API처럼 꼬리가 긴 분포)
+ */
+interface LatencyDistribution {
+
+    long nextMillis();
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":");
+        switch (parts[0]) {
+            case "fixed": {
+                long millis = Long.parseLong(parts[1]);
+                return () -> millis;
+            }
+            case "uniform": {
+                long min = Long.parseLong(parts[1]);
+                long max = Long.parseLong(parts[2]);
+                return () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+            }
+            case "lognormal": {
+                double mu = Math.log(Double.parseDouble(parts[1]));
+                // p99 = exp(mu + 2.326 * sigma)
+                double sigma = (Math.log(Double.parseDouble(parts[2])) - mu) / 2.326;
+                return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default:
+                throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.my.backend.loadtest;
+
+import com.my.backend.BackendApplication;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * /api/pharmacies/search 부하 테스트 하니스.
+ * 내장 카카오 스텁 서버와 H2 인메모리 DB로 앱을 띄운 뒤, 고정 도착률(open model)로 요청을 보내고
+ * 처리량, p50/p99/p999 지연, Hikari 풀 포화도를 측정합니다.
+ * 지연은 "예정된 전송 시각" 기준으로 재므로 서버가 밀려도 측정이 낙관적으로 왜곡되지 않습니다.
+ * 보내지 못한 요청(dropped)과 종료 대기 기한까지 응답이 없던 요청(timedOut)도 실패로 세고,
+ * 지연은 (기한 - 예정된 전송 시각)으로 백분위에 넣습니다. (빼면 가장 느린 요청만 빠져 꼬리 지연이 좋아 보임)
+ *
+ * 실행: ./gradlew loadTest -PloadTestArgs="--rate=200 --duration=60 --latency=lognormal:120:600 --error-rate=0.01"
+ *
+ * 옵션 (기본값)
+ *   --rate=100              초당 요청 수
+ *   --duration=30           측정 시간(초)
+ *   --warmup=5              워밍업 시간(초, 통계 제외)
+ *   --addresses=500         무작위로 고를 주소 개수 (적을수록 캐시 적중률 상승)
+ *   --latency=lognormal:120:400   카카오 스텁 지연 분포 (fixed:MS, uniform:MIN:MAX, lognormal:MEDIAN:P99)
+ *   --error-rate=0.0        카카오 스텁 오류 응답 비율
+ *   --error-status=503      오류 응답 상태 코드 (429로 쿼터 초과 흉내)
+ *   --max-in-flight=5000    클라이언트 측 동시 요청 상한 (넘으면 보내지 않고 dropped로 집계)
+ *   --output=build/reports/loadtest/result.json
+ *   그 밖의 --spring.* / --app.* 옵션은 그대로 앱에 전달 (예: --app.persistence.write-behind.enabled=true)
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--spring.") || arg.startsWith("--app.") || arg.startsWith("--server.")) {
+                appArgs.add(arg);
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        double rate = Double.parseDouble(options.getOrDefault("rate", "100"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int addressCount = Integer.parseInt(options.getOrDefault("addresses", "500"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "5000"));
+        Path output = Path.of(options.getOrDefault("output", "build/reports/loadtest/result.json"));
+
+        KakaoStubServer stub = new KakaoStubServer(
+                LatencyDistribution.parse(options.getOrDefault("latency", "lognormal:120:400")),
+                Double.parseDouble(options.getOrDefault("error-rate", "0.0")),
+                Integer.parseInt(options.getOrDefault("error-status", "503")));
+        stub.start();
+
+        ConfigurableApplicationContext context = startApplication(stub.baseUrl(), appArgs);
+        try {
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port", "8080"));
+            HikariPoolMXBean pool = hikariPool(context);
+
+            LoadResult warmup = drive(port, rate, warmupSeconds, addressCount, maxInFlight, null);
+            System.out.printf(Locale.ROOT, "워밍업 완료: %d건%n", warmup.completed.get());
+
+            PoolSampler sampler = new PoolSampler(pool);
+            LoadResult result = drive(port, rate, durationSeconds, addressCount, maxInFlight, sampler);
+
+            String report = result.toJson(rate, durationSeconds, sampler, stub);
+            System.out.println(report);
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            Files.writeString(output, report);
+        } finally {
+            context.close();
+            stub.stop();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String kakaoBaseUrl, List<String> extraArgs) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "common");
+        properties.put("server.port", "0");
+        properties.put("logging.level.root", "WARN");
+        properties.put("MY_KAKAO_KEY", "loadtest");
+        properties.put("app.kakao.base-url", kakaoBaseUrl);
+        // 스텁 서버라 실제 키 쿼터가 없으므로 카카오 호출 예산은 끔 (--app.kakao.rate-limit.permits-per-second=20 등으로 켤 수 있음)
+        properties.put("app.kakao.rate-limit.permits-per-second", "0");
+        // 이전 실행의 검색 로그로 캐시를 예열하면 실행마다 조건이 달라지므로 끔
+        properties.put("app.search-log.enabled", "false");
+        properties.put("app.search-log.warm-up.enabled", "false");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        // 사용자 지정 옵션으로 기본값을 덮어씀 (같은 키를 두 번 넘기면 값이 합쳐지므로 맵으로 병합)
+        for (String arg : extraArgs) {
+            int eq = arg.indexOf('=');
+            properties.put(arg.substring(2, eq < 0 ? arg.length() : eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(BackendApplication.class).run(args);
+    }
+
+    private static HikariPoolMXBean hikariPool(ConfigurableApplicationContext context) throws Exception {
+        DataSource dataSource = context.getBean(DataSource.class);
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        // 풀은 첫 커넥션 요청 시 만들어지므로 한 번 열어서 초기화
+        hikari.getConnection().close();
+        return hikari.getHikariPoolMXBean();
+    }
+
+    // 고정 간격으로 요청을 보냄 (응답을 기다리지 않음)
+    private static LoadResult drive(int port, double rate, int seconds, int addressCount, int maxInFlight,
+                                    PoolSampler sampler) {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(8);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+        URI uri = URI.create("http://127.0.0.1:" + port + "/api/pharmacies/search");
+        LoadResult result = new LoadResult();
+        AtomicInteger inFlight = new AtomicInteger();
+        // 응답을 기다리는 요청 (순번 → 예정된 전송 시각), 보내지 못한 요청의 예정된 전송 시각
+        Map<Long, Long> outstanding = new ConcurrentHashMap<>();
+        List<Long> droppedIntended = new ArrayList<>();
+
+        ScheduledExecutorService sampling = Executors.newSingleThreadScheduledExecutor();
+        if (sampler != null) {
+            sampling.scheduleAtFixedRate(sampler::sample, 0, 100, TimeUnit.MILLISECONDS);
+        }
+
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        long total = (long) (rate * seconds);
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (inFlight.get() >= maxInFlight) {
+                result.dropped.incrementAndGet();
+                droppedIntended.add(intended);
+                continue;
+            }
+
+            String address = "서울특별시 테스트구 부하로 " + ThreadLocalRandom.current().nextInt(addressCount);
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"address\":\"" + address + "\"}", StandardCharsets.UTF_8))
+                    .build();
+            long sequence = i;
+            inFlight.incrementAndGet();
+            outstanding.put(sequence, intended);
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.decrementAndGet();
+                        // 종료 대기 기한이 지나 이미 timedOut으로 센 요청은 건너뜀
+                        if (outstanding.remove(sequence) == null) {
+                            return;
+                        }
+                        long latencyNanos = System.nanoTime() - intended;
+                        if (error != null || response.statusCode() >= 400) {
+                            result.errors.incrementAndGet();
+                        }
+                        result.latencies.add(latencyNanos);
+                        result.completed.incrementAndGet();
+                    });
+        }
+
+        // 남은 요청이 끝날 때까지 대기 (최대 30초)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        // 기한까지 응답이 없던 요청과 보내지 못한 요청은 "기한까지 기다린" 실패로 기록
+        for (Long sequence : List.copyOf(outstanding.keySet())) {
+            Long intended = outstanding.remove(sequence);
+            if (intended != null) {
+                result.timedOut.incrementAndGet();
+                result.latencies.add(deadline - intended);
+            }
+        }
+        droppedIntended.forEach(intended -> result.latencies.add(deadline - intended));
+        sampling.shutdownNow();
+        clientExecutor.shutdownNow();
+        return result;
+    }
+
+    private static final class LoadResult {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong timedOut = new AtomicLong();
+        private long elapsedNanos;
+
+        private String toJson(double rate, int durationSeconds, PoolSampler sampler, KakaoStubServer stub) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            double throughput = completed.get() / (elapsedNanos / 1e9);
+            return String.format(Locale.ROOT,
+                    "{\"targetRate\":%.1f,\"durationSeconds\":%d,\"completed\":%d,\"errors\":%d,\"dropped\":%d,"
+                            + "\"timedOut\":%d,\"failed\":%d,\"throughput\":%.1f,\"latencyMs\":{\"p50\":%.2f,\"p99\":%.2f,\"p999\":%.2f,\"max\":%.2f},"
+                            + "\"hikari\":{\"maxActive\":%d,\"poolSize\":%d,\"maxPending\":%d,\"saturatedSamplePercent\":%.1f},"
+                            + "\"kakaoStub\":{\"addressRequests\":%d,\"categoryRequests\":%d,\"injectedErrors\":%d}}",
+                    rate, durationSeconds, completed.get(), errors.get(), dropped.get(),
+                    timedOut.get(), errors.get() + dropped.get() + timedOut.get(), throughput,
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), percentileMillis(sorted, 0.999),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6,
+                    sampler.maxActive, sampler.poolSize, sampler.maxPending, sampler.saturatedPercent(),
+                    stub.getAddressRequests(), stub.getCategoryRequests(), stub.getInjectedErrors());
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+
+    // Hikari 풀 상태를 주기적으로 샘플링 (커넥션 대기 스레드가 있으면 포화로 간주)
+    private static final class PoolSampler {
+        private final HikariPoolMXBean pool;
+        private volatile int maxActive;
+        private volatile int poolSize;
+        private volatile int maxPending;
+        private final AtomicLong samples = new AtomicLong();
+        private final AtomicLong saturatedSamples = new AtomicLong();
+
+        private PoolSampler(HikariPoolMXBean pool) {
+            this.pool = pool;
+        }
+
+        private void sample() {
+            int active = pool.getActiveConnections();
+            int pending = pool.getThreadsAwaitingConnection();
+            maxActive = Math.max(maxActive, active);
+            poolSize = Math.max(poolSize, pool.getTotalConnections());
+            maxPending = Math.max(maxPending, pending);
+            samples.incrementAndGet();
+            if (pending > 0) {
+                saturatedSamples.incrementAndGet();
+            }
+        }
+
+        private double saturatedPercent() {
+            long total = samples.get();
+            return total == 0 ? 0 : saturatedSamples.get() * 100.0 / total;
+        }
+    }
+}
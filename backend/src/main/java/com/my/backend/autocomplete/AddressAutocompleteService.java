@@ -0,0 +1,147 @@
+package com.my.backend.autocomplete;
+
+import com.my.backend.cache.GeocodeCache;
+import com.my.backend.dto.AddressSuggestionDto;
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.geo.PharmacySpatialIndex;
+import com.my.backend.searchlog.SearchHotSpotAggregator;
+import com.my.backend.searchlog.SearchHotSpots;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주소 자동완성. 이미 좌표를 아는 주소만 추천하므로, 추천을 고르면 검색할 때 카카오 주소 검색을 하지 않습니다.
+ * 후보 (가중치가 클수록 먼저 추천)
+ * - DB에 저장된 약국 주소 (공간 인덱스에 올라온 것, 좌표는 약국 위치)
+ * - 주소 검색 캐시(L1)에 있는 변환 결과의 주소
+ * - 검색 로그에서 자주 검색된 주소 (검색 횟수만큼 가중치 추가)
+ * 인덱스(AddressSuggestIndex)는 불변이고, 후보가 바뀌었을 때만 rebuild-interval마다 새로 만들어 volatile 참조를 교체합니다.
+ * (약국은 공간 인덱스의 변경 횟수, 주소 검색 캐시는 miss 수, 검색 로그는 집계 결과가 바뀌었는지로 판단)
+ * 주소 수는 max-entries로 제한합니다.
+ */
+@Component
+@Slf4j
+public class AddressAutocompleteService {
+
+    private static final long PHARMACY_WEIGHT = 1;
+    private static final long GEOCODED_WEIGHT = 2;
+
+    private final PharmacySpatialIndex pharmacySpatialIndex;
+    private final GeocodeCache geocodeCache;
+    private final SearchHotSpotAggregator searchHotSpotAggregator;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final int maxTokens;
+
+    private volatile AddressSuggestIndex index = AddressSuggestIndex.EMPTY;
+    // 마지막 재구성 때의 후보 상태 (rebuild 안에서만 사용)
+    private long lastPharmacyModificationCount = -1;
+    private long lastGeocodeMissCount = -1;
+    private SearchHotSpots lastHotSpots;
+
+    public AddressAutocompleteService(PharmacySpatialIndex pharmacySpatialIndex,
+                                      GeocodeCache geocodeCache,
+                                      SearchHotSpotAggregator searchHotSpotAggregator,
+                                      @Value("${app.autocomplete.enabled:true}") boolean enabled,
+                                      @Value("${app.autocomplete.max-entries:100000}") int maxEntries,
+                                      @Value("${app.autocomplete.max-tokens:6}") int maxTokens) {
+        this.pharmacySpatialIndex = pharmacySpatialIndex;
+        this.geocodeCache = geocodeCache;
+        this.searchHotSpotAggregator = searchHotSpotAggregator;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxTokens = Math.max(maxTokens, 1);
+    }
+
+    // query로 시작하는 어절이 있는 주소 (한글은 자모 단위라 "강나"도 "강남구"와 맞음)
+    public List<AddressSuggestionDto> suggest(String query, int limit) {
+        return index.suggest(query, limit).stream()
+                .map(entry -> AddressSuggestionDto.builder()
+                        .address(entry.address())
+                        .latitude(entry.latitude())
+                        .longitude(entry.longitude())
+                        .build())
+                .toList();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    // 공간 인덱스 적재(HIGHEST_PRECEDENCE) 뒤에 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuildIfChanged();
+    }
+
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval-ms:30000}",
+            initialDelayString = "${app.autocomplete.rebuild-interval-ms:30000}")
+    public synchronized void rebuildIfChanged() {
+        if (!enabled) {
+            return;
+        }
+        // 후보를 모으기 전에 읽으므로, 모으는 동안 바뀐 약국은 다음 주기에 다시 반영됨
+        long pharmacyModificationCount = pharmacySpatialIndex.modificationCount();
+        long geocodeMissCount = geocodeCache.getCache().getMissCount();
+        SearchHotSpots hotSpots = searchHotSpotAggregator.current();
+        if (pharmacyModificationCount == lastPharmacyModificationCount && geocodeMissCount == lastGeocodeMissCount
+                && hotSpots == lastHotSpots) {
+            return;
+        }
+        lastPharmacyModificationCount = pharmacyModificationCount;
+        lastGeocodeMissCount = geocodeMissCount;
+        lastHotSpots = hotSpots;
+
+        long startedAt = System.nanoTime();
+        index = AddressSuggestIndex.build(collectCandidates(hotSpots), maxEntries, maxTokens);
+        log.debug("주소 자동완성 인덱스 재구성: {}건 ({}ms)", index.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 정규화한 주소 → 후보 (같은 주소는 가중치를 합침)
+    private List<AddressSuggestIndex.Entry> collectCandidates(SearchHotSpots hotSpots) {
+        Map<String, AddressSuggestIndex.Entry> candidates = new HashMap<>();
+        pharmacySpatialIndex.forEach(pharmacy ->
+                add(candidates, pharmacy.address(), pharmacy.latitude(), pharmacy.longitude(), PHARMACY_WEIGHT));
+        geocodeCache.forEachResolved((address, document) ->
+                add(candidates, resolvedAddress(address, document.getAddressName()),
+                        document.getLatitude(), document.getLongitude(), GEOCODED_WEIGHT));
+        for (SearchHotSpots.HotAddress hot : hotSpots.addresses()) {
+            Optional<DocumentDto> document = geocodeCache.peek(hot.address());
+            if (document != null && document.isPresent()) {
+                add(candidates, resolvedAddress(hot.address(), document.get().getAddressName()),
+                        document.get().getLatitude(), document.get().getLongitude(), hot.count());
+            }
+        }
+        return new ArrayList<>(candidates.values());
+    }
+
+    // 카카오가 돌려준 주소가 있으면 그것을, 없으면 검색한 주소를 추천 문구로 사용
+    private static String resolvedAddress(String query, String addressName) {
+        return addressName == null || addressName.isBlank() ? query : addressName;
+    }
+
+    private static void add(Map<String, AddressSuggestIndex.Entry> candidates, String address,
+                            double latitude, double longitude, long weight) {
+        String normalized = GeocodeCache.normalize(address);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        // 좌표는 가중치가 큰 쪽(주소 검색 결과 > 약국 위치)을 사용
+        candidates.merge(normalized, new AddressSuggestIndex.Entry(normalized, latitude, longitude, weight),
+                (existing, added) -> {
+                    AddressSuggestIndex.Entry origin = added.weight() > existing.weight() ? added : existing;
+                    return new AddressSuggestIndex.Entry(normalized, origin.latitude(), origin.longitude(),
+                            existing.weight() + added.weight());
+                });
+    }
+}
@@ -0,0 +1,231 @@
+package com.my.backend.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 주소 자동완성용 불변 접두어 인덱스.
+ * 주소마다 자모 키(HangulJamo) 하나만 저장하고, 어절 시작 위치(최대 maxTokens개)를 접미사로 정렬한 배열(접미사 배열)을 둡니다.
+ * 그래서 "역삼동 12"처럼 주소 중간 어절부터 입력해도 찾고, 메모리는 주소 수 × (키 길이 + 어절 수 × 8바이트)로 제한됩니다.
+ * 항목은 가중치 내림차순으로 번호를 매기므로, 번호가 작을수록 먼저 추천합니다.
+ * - 입력과 맞는 접미사 범위가 좁으면 범위를 훑어 가장 작은 번호 limit개를 고름
+ * - 범위가 넓으면(한두 글자 입력) 번호 순으로 항목을 보며 맞는 것을 limit개 찾을 때까지만 확인
+ * 두 경우 모두 비교 횟수가 제한되어 있어 조회 비용이 주소 수에 비례해 늘지 않습니다. (측정: AutocompleteBenchmark)
+ */
+public final class AddressSuggestIndex {
+
+    // 범위가 이보다 넓으면 번호 순으로 확인
+    private static final int RANGE_SCAN_LIMIT = 2048;
+
+    public static final AddressSuggestIndex EMPTY = build(List.of(), 0, 1);
+
+    public record Entry(String address, double latitude, double longitude, long weight) {
+    }
+
+    // 가중치 내림차순
+    private final Entry[] entries;
+    private final String[] keys;
+    // 항목 i의 어절 시작 위치는 tokenOffsets[tokenFrom[i] .. tokenFrom[i + 1])
+    private final int[] tokenFrom;
+    private final int[] tokenOffsets;
+    // 접미사 정렬 (항목 번호, 키 안의 시작 위치)
+    private final int[] suffixEntries;
+    private final int[] suffixOffsets;
+
+    private AddressSuggestIndex(Entry[] entries, String[] keys, int[] tokenFrom, int[] tokenOffsets,
+                                int[] suffixEntries, int[] suffixOffsets) {
+        this.entries = entries;
+        this.keys = keys;
+        this.tokenFrom = tokenFrom;
+        this.tokenOffsets = tokenOffsets;
+        this.suffixEntries = suffixEntries;
+        this.suffixOffsets = suffixOffsets;
+    }
+
+    /**
+     * candidates 중 가중치가 큰 maxEntries개로 인덱스를 만듭니다. (주소 중복은 호출하는 쪽에서 합쳐서 넘김)
+     */
+    public static AddressSuggestIndex build(List<Entry> candidates, int maxEntries, int maxTokens) {
+        Entry[] entries = candidates.stream()
+                .filter(entry -> entry.address() != null && !entry.address().isBlank())
+                .sorted(Comparator.comparingLong(Entry::weight).reversed().thenComparing(Entry::address))
+                .limit(maxEntries)
+                .toArray(Entry[]::new);
+
+        String[] keys = new String[entries.length];
+        int[] tokenFrom = new int[entries.length + 1];
+        int[] tokenOffsets = new int[entries.length * maxTokens];
+        int tokenCount = 0;
+        for (int i = 0; i < entries.length; i++) {
+            tokenFrom[i] = tokenCount;
+            StringBuilder key = new StringBuilder();
+            int tokens = 0;
+            for (String token : entries[i].address().trim().split("\\s+")) {
+                if (tokens < maxTokens) {
+                    tokenOffsets[tokenCount++] = key.length();
+                    tokens++;
+                }
+                HangulJamo.append(key, token);
+            }
+            keys[i] = key.toString();
+        }
+        tokenFrom[entries.length] = tokenCount;
+        int[] offsets = Arrays.copyOf(tokenOffsets, tokenCount);
+
+        // 어절 시작 위치별 접미사를 키 순으로 정렬
+        int[] owner = new int[tokenCount];
+        int[] order = new int[tokenCount];
+        char[][] chars = new char[entries.length][];
+        for (int i = 0; i < entries.length; i++) {
+            chars[i] = keys[i].toCharArray();
+            for (int t = tokenFrom[i]; t < tokenFrom[i + 1]; t++) {
+                owner[t] = i;
+                order[t] = t;
+            }
+        }
+        new SuffixSorter(chars, owner, offsets).sort(order, 0, tokenCount, 0);
+        int[] suffixEntries = new int[tokenCount];
+        int[] suffixOffsets = new int[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            suffixEntries[i] = owner[order[i]];
+            suffixOffsets[i] = offsets[order[i]];
+        }
+        return new AddressSuggestIndex(entries, keys, tokenFrom, offsets, suffixEntries, suffixOffsets);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // query로 시작하는 어절이 있는 주소를 가중치 순으로 최대 limit개
+    public List<Entry> suggest(String query, int limit) {
+        String prefix = query == null ? "" : HangulJamo.key(query);
+        if (prefix.isEmpty() || limit <= 0 || entries.length == 0) {
+            return List.of();
+        }
+        int from = firstSuffixNotBefore(prefix, false);
+        int to = firstSuffixNotBefore(prefix, true);
+        if (from >= to) {
+            return List.of();
+        }
+
+        List<Entry> results = new ArrayList<>(limit);
+        if (to - from <= RANGE_SCAN_LIMIT) {
+            int[] matched = new int[to - from];
+            for (int i = from; i < to; i++) {
+                matched[i - from] = suffixEntries[i];
+            }
+            Arrays.sort(matched);
+            for (int i = 0; i < matched.length && results.size() < limit; i++) {
+                if (i == 0 || matched[i] != matched[i - 1]) {
+                    results.add(entries[matched[i]]);
+                }
+            }
+            return results;
+        }
+        for (int entry = 0; entry < entries.length && results.size() < limit; entry++) {
+            for (int t = tokenFrom[entry]; t < tokenFrom[entry + 1]; t++) {
+                if (keys[entry].startsWith(prefix, tokenOffsets[t])) {
+                    results.add(entries[entry]);
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    // 정렬된 접미사 중 prefix보다 앞서지 않는 첫 위치 (afterPrefix면 prefix로 시작하는 것도 건너뜀)
+    private int firstSuffixNotBefore(String prefix, boolean afterPrefix) {
+        int low = 0;
+        int high = suffixEntries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int compared = comparePrefix(keys[suffixEntries[mid]], suffixOffsets[mid], prefix);
+            if (compared < 0 || (afterPrefix && compared == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // key[offset..]의 앞 prefix.length()글자와 prefix 비교 (prefix로 시작하면 0)
+    private static int comparePrefix(String key, int offset, String prefix) {
+        int length = Math.min(key.length() - offset, prefix.length());
+        for (int i = 0; i < length; i++) {
+            int diff = key.charAt(offset + i) - prefix.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length == prefix.length() ? 0 : -1;
+    }
+
+    /**
+     * 3-way radix quicksort (Bentley-Sedgewick). 주소는 "서울 강남구 ..."처럼 앞부분이 같은 경우가 많아서
+     * 매번 처음부터 비교하는 정렬보다, 같은 글자까지는 다시 비교하지 않는 이 방식이 훨씬 빠릅니다.
+     */
+    private record SuffixSorter(char[][] keys, int[] owner, int[] offsets) {
+
+        private static final int INSERTION_SORT_THRESHOLD = 16;
+
+        // order[low, high)를 depth번째 글자부터 정렬 (앞 글자는 모두 같음)
+        void sort(int[] order, int low, int high, int depth) {
+            while (high - low > INSERTION_SORT_THRESHOLD) {
+                int pivot = charAt(order[(low + high) >>> 1], depth);
+                int lessEnd = low;
+                int greaterStart = high;
+                int i = low;
+                while (i < greaterStart) {
+                    int c = charAt(order[i], depth);
+                    if (c < pivot) {
+                        swap(order, lessEnd++, i++);
+                    } else if (c > pivot) {
+                        swap(order, i, --greaterStart);
+                    } else {
+                        i++;
+                    }
+                }
+                sort(order, low, lessEnd, depth);
+                sort(order, greaterStart, high, depth);
+                if (pivot < 0) {
+                    return;
+                }
+                // 같은 글자 구간은 다음 글자로 (재귀 대신 반복)
+                low = lessEnd;
+                high = greaterStart;
+                depth++;
+            }
+            for (int i = low + 1; i < high; i++) {
+                for (int j = i; j > low && compare(order[j], order[j - 1], depth) < 0; j--) {
+                    swap(order, j, j - 1);
+                }
+            }
+        }
+
+        // 접미사의 depth번째 글자 (끝났으면 -1)
+        private int charAt(int suffix, int depth) {
+            char[] key = keys[owner[suffix]];
+            int position = offsets[suffix] + depth;
+            return position < key.length ? key[position] : -1;
+        }
+
+        private int compare(int a, int b, int depth) {
+            for (int d = depth; ; d++) {
+                int diff = charAt(a, d) - charAt(b, d);
+                if (diff != 0 || charAt(a, d) < 0) {
+                    return diff;
+                }
+            }
+        }
+
+        private static void swap(int[] order, int i, int j) {
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.my.backend.autocomplete;
+
+/**
+ * 한글을 자모 단위로 풀어 쓴 검색 키.
+ * 입력 중인 글자도 완성된 주소의 앞부분과 맞도록, 음절을 초성/중성/종성으로 풀고 겹모음·겹받침은 기본 자모로 나눕니다.
+ * 예: "강나" → ㄱㅏㅇㄴㅏ 는 "강남" → ㄱㅏㅇㄴㅏㅁ 의 앞부분, "값"(ㄱㅏㅂㅅ)은 "갑"을 거쳐 입력됨
+ * 따로 입력한 호환 자모(ㄱ, ㅘ 등)도 같은 자모로 바꾸고, 영문은 소문자로 통일하며, 공백은 키에서 뺍니다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char COMPAT_FIRST = 'ㄱ';
+    private static final char COMPAT_LAST = 'ㅣ';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    // 종성 인덱스 0은 받침 없음
+    private static final String JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 호환 자모 → 기본 자모 (겹모음/겹받침만 두 글자)
+    private static final String[] COMPAT = new String[COMPAT_LAST - COMPAT_FIRST + 1];
+
+    static {
+        for (char c = COMPAT_FIRST; c <= COMPAT_LAST; c++) {
+            COMPAT[c - COMPAT_FIRST] = String.valueOf(c);
+        }
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}};
+        for (String[] compound : compounds) {
+            COMPAT[compound[0].charAt(0) - COMPAT_FIRST] = compound[1];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    public static String key(CharSequence text) {
+        StringBuilder key = new StringBuilder(text.length() * 3);
+        append(key, text);
+        return key.toString();
+    }
+
+    // text의 키를 key 끝에 붙임
+    public static void append(StringBuilder key, CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_FIRST;
+                int jong = index % 28;
+                int jung = (index / 28) % 21;
+                int cho = index / (28 * 21);
+                key.append(CHOSEONG.charAt(cho));
+                key.append(COMPAT[JUNGSEONG.charAt(jung) - COMPAT_FIRST]);
+                if (jong > 0) {
+                    key.append(COMPAT[JONGSEONG.charAt(jong) - COMPAT_FIRST]);
+                }
+            } else if (c >= COMPAT_FIRST && c <= COMPAT_LAST) {
+                key.append(COMPAT[c - COMPAT_FIRST]);
+            } else if (!Character.isWhitespace(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.my.backend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.event.PharmacyChangedEvent;
+import com.my.backend.geo.GeoUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리(PM9) 검색 결과 캐시.
+ * 좌표를 격자 타일로 양자화하고 반경을 구간(bucket)으로 묶어서 키로 사용하므로,
+ * 몇 미터 떨어진 사용자끼리도 같은 결과를 공유합니다.
+ * 더 큰 반경으로 저장된 결과는 실제 요청 좌표 기준으로 거리를 다시 계산·정렬해 작은 반경 요청에도 응답합니다.
+ * 공유 캐시(app.cache.shared.type)가 켜져 있으면 타일 결과를 인스턴스끼리 공유합니다. (TwoTierCache)
+ * 약국이 삭제되거나 대량 적재로 바뀌면 모든 인스턴스의 캐시를 비워, 지운 약국이 캐시된 결과로 다시 나오지 않게 합니다.
+ */
+@Component
+public class CategorySearchCache {
+
+    // 카카오 카테고리 검색 최대 반경은 20km
+    private static final int[] RADIUS_BUCKETS = {250, 500, 1000, 2000, 5000, 10000, 20000};
+
+    private final TwoTierCache<TileKey, CachedResult> cache;
+    private final double tileDegrees;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CategorySearchCache(SharedCacheStore sharedCacheStore,
+                               ObjectMapper objectMapper,
+                               @Value("${app.cache.category.max-size:20000}") int maxSize,
+                               @Value("${app.cache.category.ttl-ms:600000}") long ttlMillis,
+                               @Value("${app.cache.category.tile-degrees:0.002}") double tileDegrees) {
+        this.cache = new TwoTierCache<>("category", maxSize, result -> ttlMillis, sharedCacheStore,
+                key -> key.latTile() + ":" + key.lonTile() + ":" + key.radiusBucket(),
+                result -> writeJson(objectMapper, result.toShared()),
+                json -> CachedResult.fromShared(readJson(objectMapper, json)));
+        this.tileDegrees = tileDegrees;
+    }
+
+    // 요청 반경을 캐시 구간으로 올림 (카카오에는 이 반경으로 요청해야 결과를 재사용할 수 있음)
+    public static int bucketRadius(double radius) {
+        for (int bucket : RADIUS_BUCKETS) {
+            if (radius <= bucket) {
+                return bucket;
+            }
+        }
+        return RADIUS_BUCKETS[RADIUS_BUCKETS.length - 1];
+    }
+
+    /**
+     * (latitude, longitude) 기준 반경 radius(m) 이내 가까운 약국 최대 limit개.
+     * 캐시된 결과로 정확히 답할 수 없으면 null 반환.
+     */
+    public List<DocumentDto> find(double latitude, double longitude, double radius, int limit) {
+        long latTile = tileOf(latitude);
+        long lonTile = tileOf(longitude);
+        for (int bucket : RADIUS_BUCKETS) {
+            if (bucket < radius) {
+                continue;
+            }
+            CachedResult cached = cache.get(new TileKey(latTile, lonTile, bucket));
+            if (cached != null) {
+                List<DocumentDto> answer = cached.answer(latitude, longitude, radius, limit);
+                if (answer != null) {
+                    hitCount.incrementAndGet();
+                    return answer;
+                }
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 카카오 응답 저장. documents는 origin 기준 거리순이어야 하며,
+     * complete는 반경 안의 약국을 모두 받았는지(마지막 페이지까지 읽었는지) 여부입니다.
+     */
+    public void put(double originLatitude, double originLongitude, double radius,
+                    List<DocumentDto> documents, boolean complete) {
+        int bucket = bucketRadius(radius);
+        CachedResult result = new CachedResult(originLatitude, originLongitude, radius, List.copyOf(documents), complete);
+        cache.put(new TileKey(tileOf(originLatitude), tileOf(originLongitude), bucket), result);
+    }
+
+    // 이 좌표/반경의 검색 결과가 저장되는 키 (검색 로그 집계용)
+    public TileKey tileKeyOf(double latitude, double longitude, double radius) {
+        return new TileKey(tileOf(latitude), tileOf(longitude), bucketRadius(radius));
+    }
+
+    private long tileOf(double degrees) {
+        return (long) Math.floor(degrees / tileDegrees);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public LocalCache<?, ?> getCache() {
+        return cache.getLocalCache();
+    }
+
+    public TwoTierCache<?, ?> getSharedCache() {
+        return cache;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // 검색 결과 upsert는 이 캐시에 든 카카오 결과를 저장한 것이므로 비우지 않음
+    // 다른 인스턴스에서 온 변경(remote)은 그 인스턴스가 이미 무효화 메시지를 보냈으므로 건너뜀
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPharmacyChanged(PharmacyChangedEvent event) {
+        if (!event.remote() && (event.bulk() || !event.deletedIds().isEmpty())) {
+            invalidateAll();
+        }
+    }
+
+    public record TileKey(long latTile, long lonTile, int radiusBucket) {
+    }
+
+    // 공유 캐시에 JSON으로 저장하는 형태
+    record SharedResult(double originLatitude, double originLongitude, double radius, boolean complete,
+                        List<DocumentDto> documents) {
+    }
+
+    private static String writeJson(ObjectMapper objectMapper, SharedResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SharedResult readJson(ObjectMapper objectMapper, String json) {
+        try {
+            return objectMapper.readValue(json, SharedResult.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static final class CachedResult {
+        private final double originLatitude;
+        private final double originLongitude;
+        private final double radius;
+        private final boolean complete;
+        private final List<DocumentDto> documents;
+        // origin 기준으로 이 반경 안의 약국은 빠짐없이 documents에 들어 있음
+        private final double coveredRadius;
+
+        CachedResult(double originLatitude, double originLongitude, double radius,
+                     List<DocumentDto> documents, boolean complete) {
+            this.originLatitude = originLatitude;
+            this.originLongitude = originLongitude;
+            this.radius = radius;
+            this.complete = complete;
+            this.documents = documents;
+            if (complete) {
+                this.coveredRadius = radius;
+            } else {
+                // 결과가 잘린 경우, 거리순이므로 마지막 약국까지의 거리까지만 완전함
+                this.coveredRadius = documents.isEmpty() ? 0 : documents.get(documents.size() - 1).getDistance();
+            }
+        }
+
+        static CachedResult fromShared(SharedResult shared) {
+            return new CachedResult(shared.originLatitude(), shared.originLongitude(), shared.radius(),
+                    List.copyOf(shared.documents()), shared.complete());
+        }
+
+        SharedResult toShared() {
+            return new SharedResult(originLatitude, originLongitude, radius, complete, documents);
+        }
+
+        List<DocumentDto> answer(double latitude, double longitude, double radius, int limit) {
+            double offset = GeoUtils.haversineMeters(originLatitude, originLongitude, latitude, longitude);
+            if (offset > coveredRadius) {
+                return null;
+            }
+
+            List<DocumentDto> candidates = new ArrayList<>();
+            for (DocumentDto document : documents) {
+                double distance = GeoUtils.haversineMeters(latitude, longitude, document.getLatitude(), document.getLongitude());
+                if (distance <= radius) {
+                    candidates.add(document.toBuilder().distance(distance).build());
+                }
+            }
+            candidates.sort(Comparator.comparingDouble(DocumentDto::getDistance));
+            List<DocumentDto> answer = candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+
+            // 요청 원 전체가 보장 영역 안이면 정확
+            if (offset + radius <= coveredRadius) {
+                return List.copyOf(answer);
+            }
+            // 그렇지 않아도 limit개를 채웠고 마지막 결과까지의 원이 보장 영역 안이면 정확
+            if (limit > 0 && answer.size() == limit && offset + answer.get(limit - 1).getDistance() <= coveredRadius) {
+                return List.copyOf(answer);
+            }
+            return null;
+        }
+    }
+}
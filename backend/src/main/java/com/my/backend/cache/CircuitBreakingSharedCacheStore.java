@@ -0,0 +1,102 @@
+package com.my.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 공유 캐시(L2) 장애 시 잠시 호출을 끊는 SharedCacheStore 래퍼.
+ * 호출이 실패하면 retry-after 동안은 L2를 부르지 않고 바로 예외를 던지므로,
+ * Redis가 죽어 있을 때 L1 miss마다 연결 timeout(spring.data.redis.timeout)만큼 기다리지 않습니다.
+ * retry-after가 지나면 다음 호출 하나로 다시 확인하고, 성공하면 정상으로 돌아갑니다.
+ */
+@Slf4j
+public class CircuitBreakingSharedCacheStore implements SharedCacheStore {
+
+    private final SharedCacheStore delegate;
+    private final long retryAfterNanos;
+    private final LongSupplier nanoClock;
+
+    // 이 시각(nanoTime) 전에는 L2를 부르지 않음, 0이면 정상
+    private volatile long openUntilNanos;
+
+    public CircuitBreakingSharedCacheStore(SharedCacheStore delegate, long retryAfterMillis) {
+        this(delegate, retryAfterMillis, System::nanoTime);
+    }
+
+    public CircuitBreakingSharedCacheStore(SharedCacheStore delegate, long retryAfterMillis, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.retryAfterNanos = retryAfterMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public String get(String key) {
+        return call(() -> delegate.get(key));
+    }
+
+    @Override
+    public void put(String key, String value, long ttlMillis) {
+        call(() -> {
+            delegate.put(key, value, ttlMillis);
+            return null;
+        });
+    }
+
+    @Override
+    public long increment(String key) {
+        return call(() -> delegate.increment(key));
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        call(() -> {
+            delegate.publish(channel, message);
+            return null;
+        });
+    }
+
+    // 구독은 시작 시 한 번이고 재연결은 구독 컨테이너가 하므로 끊지 않음
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        delegate.subscribe(channel, listener);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    public boolean isOpen() {
+        long openUntil = openUntilNanos;
+        return openUntil != 0 && nanoClock.getAsLong() - openUntil < 0;
+    }
+
+    private <T> T call(Supplier<T> action) {
+        if (isOpen()) {
+            throw new IllegalStateException("공유 캐시 장애로 잠시 사용하지 않음");
+        }
+        try {
+            T result = action.get();
+            if (openUntilNanos != 0) {
+                openUntilNanos = 0;
+                log.info("공유 캐시 복구");
+            }
+            return result;
+        } catch (RuntimeException e) {
+            if (openUntilNanos == 0) {
+                log.warn("공유 캐시 호출 실패, {}ms 동안 L1만 사용: {}", retryAfterNanos / 1_000_000, e.getMessage());
+            }
+            // 0은 정상 표시이므로 피함
+            openUntilNanos = (nanoClock.getAsLong() + retryAfterNanos) | 1;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.my.backend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.dto.DocumentDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * 주소 → 좌표(카카오 주소 검색 결과) 캐시.
+ * 같은 역 이름, 아파트 단지 주소가 반복해서 들어오므로 정규화한 주소를 키로 사용합니다.
+ * 결과 없음(null)도 Optional.empty()로 짧게 캐시해서 같은 오타가 반복 호출되지 않도록 합니다.
+ * 공유 캐시(app.cache.shared.type)가 켜져 있으면 다른 인스턴스가 받아 둔 좌표도 재사용합니다. (TwoTierCache)
+ */
+@Component
+public class GeocodeCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // 공유 캐시에 저장하는 "결과 없음" 값
+    private static final String NOT_FOUND = "";
+
+    private final TwoTierCache<String, Optional<DocumentDto>> cache;
+
+    public GeocodeCache(SharedCacheStore sharedCacheStore,
+                        ObjectMapper objectMapper,
+                        @Value("${app.cache.geocode.max-size:10000}") int maxSize,
+                        @Value("${app.cache.geocode.ttl-ms:86400000}") long ttlMillis,
+                        @Value("${app.cache.geocode.negative-ttl-ms:60000}") long negativeTtlMillis) {
+        this.cache = new TwoTierCache<>("geocode", maxSize,
+                document -> document.isPresent() ? ttlMillis : negativeTtlMillis,
+                sharedCacheStore,
+                address -> address,
+                document -> document.isPresent() ? writeJson(objectMapper, document.get()) : NOT_FOUND,
+                json -> NOT_FOUND.equals(json) ? Optional.empty() : Optional.of(readJson(objectMapper, json)));
+    }
+
+    // 캐시에 없으면 null, 결과 없음이 캐시되어 있으면 Optional.empty() 반환
+    public Optional<DocumentDto> get(String address) {
+        return cache.get(normalize(address));
+    }
+
+    // 이 인스턴스의 L1만 조회하고 통계에 넣지 않음 (검색 로그 기록용, 없으면 null)
+    public Optional<DocumentDto> peek(String address) {
+        return cache.getLocalCache().peek(normalize(address));
+    }
+
+    // 이 인스턴스의 L1에 있는 좌표 변환 결과 (정규화한 주소, 결과) - 결과 없음은 제외 (자동완성 인덱스 재구성용)
+    public void forEachResolved(BiConsumer<String, DocumentDto> action) {
+        cache.getLocalCache().forEach((address, document) -> document.ifPresent(found -> action.accept(address, found)));
+    }
+
+    public void put(String address, DocumentDto document) {
+        cache.put(normalize(address), Optional.ofNullable(document));
+    }
+
+    // 앞뒤 공백 제거, 연속 공백을 하나로, 유니코드 NFKC 정규화 (자모 분리 입력, 전각 문자 통일)
+    public static String normalize(String address) {
+        if (address == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFKC).trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
+
+    public LocalCache<String, Optional<DocumentDto>> getCache() {
+        return cache.getLocalCache();
+    }
+
+    public TwoTierCache<?, ?> getSharedCache() {
+        return cache;
+    }
+
+    private static String writeJson(ObjectMapper objectMapper, DocumentDto document) {
+        try {
+            return objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DocumentDto readJson(ObjectMapper objectMapper, String json) {
+        try {
+            return objectMapper.readValue(json, DocumentDto.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
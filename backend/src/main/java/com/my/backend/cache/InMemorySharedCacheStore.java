@@ -0,0 +1,72 @@
+package com.my.backend.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 같은 JVM 안에서만 공유되는 SharedCacheStore (Redis 대신 쓰는 테스트/로컬용).
+ * 한 인스턴스를 여러 캐시(= 여러 노드 흉내)에 넘기면 Redis와 같은 방식으로 값과 메시지를 공유합니다.
+ * 메시지는 publish한 스레드에서 바로 전달됩니다.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    // increment로 만든 카운터는 만료되지 않음
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public InMemorySharedCacheStore() {
+        this(System::nanoTime);
+    }
+
+    public InMemorySharedCacheStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtNanos != NO_EXPIRY && entry.expiresAtNanos - nanoClock.getAsLong() <= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void put(String key, String value, long ttlMillis) {
+        if (value == null || ttlMillis <= 0) {
+            return;
+        }
+        entries.put(key, new Entry(value, nanoClock.getAsLong() + ttlMillis * 1_000_000L));
+    }
+
+    @Override
+    public long increment(String key) {
+        Entry entry = entries.compute(key, (k, current) -> new Entry(
+                Long.toString(current == null ? 1 : Long.parseLong(current.value) + 1), NO_EXPIRY));
+        return Long.parseLong(entry.value);
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        listeners.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private record Entry(String value, long expiresAtNanos) {
+    }
+}
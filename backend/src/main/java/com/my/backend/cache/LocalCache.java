@@ -0,0 +1,138 @@
+package com.my.backend.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기(LRU)와 TTL 기반으로 만료되는 프로세스 내부 캐시.
+ * 엔트리마다 TTL을 따로 줄 수 있어서 "결과 없음" 같은 음성 캐시는 짧게 보관할 수 있습니다.
+ */
+public class LocalCache<K, V> {
+
+    private final int maxSize;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public LocalCache(int maxSize) {
+        this(maxSize, System::nanoTime);
+    }
+
+    public LocalCache(int maxSize, LongSupplier nanoClock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.nanoClock = nanoClock;
+        // accessOrder = true 로 두면 get 할 때마다 뒤로 이동하므로 맨 앞이 가장 오래 안 쓰인 엔트리
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // 만료되지 않은 값을 반환하고, 없거나 만료되었으면 null 반환
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(nanoClock.getAsLong())) {
+            entries.remove(key);
+            evictionCount.incrementAndGet();
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    // get과 같지만 적중/미스 통계에 넣지 않음 (백그라운드 작업용, 만료된 엔트리도 지우지 않음)
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry == null || entry.isExpired(nanoClock.getAsLong()) ? null : entry.value;
+    }
+
+    // 만료되지 않은 모든 엔트리 (통계와 LRU 순서에 영향 없음, 잠금을 잡은 채로 호출하므로 action은 짧아야 함)
+    public synchronized void forEach(BiConsumer<K, V> action) {
+        long now = nanoClock.getAsLong();
+        entries.forEach((key, entry) -> {
+            if (!entry.isExpired(now)) {
+                action.accept(key, entry.value);
+            }
+        });
+    }
+
+    public synchronized void put(K key, V value, long ttlMillis) {
+        if (value == null || ttlMillis <= 0) {
+            return;
+        }
+        long expiresAt = nanoClock.getAsLong() + ttlMillis * 1_000_000L;
+        entries.put(key, new Entry<>(value, expiresAt));
+        evictOverflow();
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    // 만료된 엔트리를 정리하고, 그래도 넘치면 가장 오래 안 쓰인 것부터 제거
+    private void evictOverflow() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue().isExpired(now)) {
+                it.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+        it = entries.entrySet().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
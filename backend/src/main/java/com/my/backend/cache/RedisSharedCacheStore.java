@@ -0,0 +1,73 @@
+package com.my.backend.cache;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 SharedCacheStore (app.cache.shared.type=redis).
+ * 값은 문자열 키/값 + TTL, 세대는 INCR, 알림은 Redis pub/sub 채널로 주고받습니다.
+ * pub/sub은 전달을 보장하지 않으므로 놓친 무효화는 캐시 TTL이 지나면서 정리됩니다.
+ */
+public class RedisSharedCacheStore implements SharedCacheStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisSharedCacheStore(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    // 연결 팩토리로 템플릿과 구독 컨테이너를 만들고 구독을 시작 (close로 정리)
+    public static RedisSharedCacheStore create(RedisConnectionFactory connectionFactory) {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        return new RedisSharedCacheStore(redisTemplate, listenerContainer);
+    }
+
+    @Override
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void put(String key, String value, long ttlMillis) {
+        redisTemplate.opsForValue().set(key, value, Duration.ofMillis(ttlMillis));
+    }
+
+    @Override
+    public long increment(String key) {
+        Long value = redisTemplate.opsForValue().increment(key);
+        return value == null ? 0 : value;
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+    }
+
+    @Override
+    public void close() {
+        try {
+            listenerContainer.destroy();
+        } catch (Exception e) {
+            throw new IllegalStateException("Redis 구독 컨테이너 종료 실패", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.my.backend.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 여러 인스턴스가 함께 쓰는 캐시 저장소(L2)와 메시지 채널.
+ * 구현: RedisSharedCacheStore(운영), InMemorySharedCacheStore(같은 JVM 안에서만 공유하는 테스트/로컬용), none()(사용 안 함).
+ * 구현은 장애 시 예외를 던질 수 있고, 호출하는 쪽(TwoTierCache 등)이 잡아서 L1만으로 계속 동작합니다.
+ */
+public interface SharedCacheStore {
+
+    // 없거나 만료되었으면 null
+    String get(String key);
+
+    void put(String key, String value, long ttlMillis);
+
+    // 키의 정수 값을 1 올리고 올린 값을 반환 (없으면 0에서 시작)
+    long increment(String key);
+
+    void publish(String channel, String message);
+
+    // 다른 인스턴스(자기 자신 포함)가 publish한 메시지를 받음
+    void subscribe(String channel, Consumer<String> listener);
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    // 구독/연결 정리 (빈 종료 시 호출)
+    default void close() {
+    }
+
+    static SharedCacheStore none() {
+        return NoopSharedCacheStore.INSTANCE;
+    }
+
+    // app.cache.shared.type=none: 인스턴스마다 L1만 사용
+    enum NoopSharedCacheStore implements SharedCacheStore {
+        INSTANCE;
+
+        @Override
+        public String get(String key) {
+            return null;
+        }
+
+        @Override
+        public void put(String key, String value, long ttlMillis) {
+        }
+
+        @Override
+        public long increment(String key) {
+            return 0;
+        }
+
+        @Override
+        public void publish(String channel, String message) {
+        }
+
+        @Override
+        public void subscribe(String channel, Consumer<String> listener) {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    }
+}
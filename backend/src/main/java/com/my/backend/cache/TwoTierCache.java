@@ -0,0 +1,146 @@
+package com.my.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 프로세스 내부 LocalCache(L1) + 인스턴스 공유 SharedCacheStore(L2) 2단 캐시.
+ * - get: L1 → L2 순으로 찾고, L2에서 찾은 값은 L1에도 넣음 (다른 인스턴스가 카카오에서 받아 둔 결과를 재사용)
+ * - put: L1과 L2에 함께 저장
+ * - invalidateAll: L2 세대(generation)를 올리고 모든 인스턴스에 알려 각자의 L1을 비움
+ *   (L2 키에 세대가 들어 있으므로 이전 세대 값은 읽히지 않고 TTL로 사라짐)
+ * L2 장애는 예외를 삼키고 L1만으로 동작합니다. (sharedErrorCount로 집계)
+ * 장애 중 L1 miss마다 L2 timeout을 기다리지 않도록 Redis 저장소는 CircuitBreakingSharedCacheStore로 감싸서 넘깁니다.
+ */
+@Slf4j
+public class TwoTierCache<K, V> {
+
+    static final String INVALIDATION_CHANNEL = "pharmacy:cache:invalidate";
+
+    private final String name;
+    private final LocalCache<K, V> local;
+    private final SharedCacheStore shared;
+    private final ToLongFunction<V> ttlMillis;
+    private final Function<K, String> keyEncoder;
+    private final Function<V, String> valueEncoder;
+    private final Function<String, V> valueDecoder;
+    private final String generationKey;
+
+    private volatile long generation;
+
+    private final AtomicLong sharedHitCount = new AtomicLong();
+    private final AtomicLong sharedMissCount = new AtomicLong();
+    private final AtomicLong sharedErrorCount = new AtomicLong();
+
+    public TwoTierCache(String name, int maxSize, ToLongFunction<V> ttlMillis, SharedCacheStore shared,
+                        Function<K, String> keyEncoder, Function<V, String> valueEncoder, Function<String, V> valueDecoder) {
+        this.name = name;
+        this.local = new LocalCache<>(maxSize);
+        this.shared = shared;
+        this.ttlMillis = ttlMillis;
+        this.keyEncoder = keyEncoder;
+        this.valueEncoder = valueEncoder;
+        this.valueDecoder = valueDecoder;
+        this.generationKey = "pharmacy:cache:" + name + ":generation";
+        if (shared.isEnabled()) {
+            this.generation = readGeneration();
+            shared.subscribe(INVALIDATION_CHANNEL, this::onInvalidation);
+        }
+    }
+
+    // 없으면 null
+    public V get(K key) {
+        V value = local.get(key);
+        if (value != null || !shared.isEnabled()) {
+            return value;
+        }
+        try {
+            String encoded = shared.get(sharedKey(key));
+            if (encoded == null) {
+                sharedMissCount.incrementAndGet();
+                return null;
+            }
+            value = valueDecoder.apply(encoded);
+        } catch (RuntimeException e) {
+            sharedErrorCount.incrementAndGet();
+            log.debug("공유 캐시 조회 실패 ({}): {}", name, e.getMessage());
+            return null;
+        }
+        sharedHitCount.incrementAndGet();
+        local.put(key, value, ttlMillis.applyAsLong(value));
+        return value;
+    }
+
+    public void put(K key, V value) {
+        long ttl = ttlMillis.applyAsLong(value);
+        local.put(key, value, ttl);
+        if (!shared.isEnabled() || ttl <= 0) {
+            return;
+        }
+        try {
+            shared.put(sharedKey(key), valueEncoder.apply(value), ttl);
+        } catch (RuntimeException e) {
+            sharedErrorCount.incrementAndGet();
+            log.debug("공유 캐시 저장 실패 ({}): {}", name, e.getMessage());
+        }
+    }
+
+    public void invalidateAll() {
+        local.invalidateAll();
+        if (!shared.isEnabled()) {
+            return;
+        }
+        try {
+            long next = shared.increment(generationKey);
+            generation = Math.max(generation, next);
+            shared.publish(INVALIDATION_CHANNEL, name + ':' + next);
+        } catch (RuntimeException e) {
+            sharedErrorCount.incrementAndGet();
+            log.warn("공유 캐시 무효화 실패 ({}): {}", name, e.getMessage());
+        }
+    }
+
+    // "캐시이름:세대" 메시지 (자기 자신이 보낸 것도 받음)
+    private void onInvalidation(String message) {
+        int separator = message.lastIndexOf(':');
+        if (separator < 0 || !name.equals(message.substring(0, separator))) {
+            return;
+        }
+        generation = Math.max(generation, Long.parseLong(message.substring(separator + 1)));
+        local.invalidateAll();
+    }
+
+    private long readGeneration() {
+        try {
+            String value = shared.get(generationKey);
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (RuntimeException e) {
+            sharedErrorCount.incrementAndGet();
+            log.warn("공유 캐시 세대 조회 실패 ({}): {}", name, e.getMessage());
+            return 0;
+        }
+    }
+
+    private String sharedKey(K key) {
+        return "pharmacy:cache:" + name + ':' + generation + ':' + keyEncoder.apply(key);
+    }
+
+    public LocalCache<K, V> getLocalCache() {
+        return local;
+    }
+
+    public long getSharedHitCount() {
+        return sharedHitCount.get();
+    }
+
+    public long getSharedMissCount() {
+        return sharedMissCount.get();
+    }
+
+    public long getSharedErrorCount() {
+        return sharedErrorCount.get();
+    }
+}
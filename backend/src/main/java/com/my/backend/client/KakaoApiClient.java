@@ -0,0 +1,42 @@
+package com.my.backend.client;
+
+import com.my.backend.dto.KakaoApiResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 카카오 로컬 API 블로킹 클라이언트.
+ * 호출은 KakaoAsyncApiClient에 맡기고 결과를 기다리기만 하므로, 인증/재시도/동일 요청 합치기/호출 예산/지표/오류 처리는
+ * 그쪽 한 곳에만 있고 블로킹 호출과 비동기 호출이 진행 중인 같은 요청을 함께 씁니다.
+ * 오류 시에는 기존 서비스들과 같이 예외 대신 null을 반환합니다.
+ * 단, 호출 예산(KakaoRateLimiter) 초과나 재시도 후에도 429면 KakaoQuotaExceededException을 던집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KakaoApiClient {
+
+    private final KakaoAsyncApiClient kakaoAsyncApiClient;
+
+    // 예: uriBuilder("/v2/local/search/address.json").queryParam("query", address)
+    public UriComponentsBuilder uriBuilder(String path) {
+        return kakaoAsyncApiClient.uriBuilder(path);
+    }
+
+    public KakaoApiResponseDto get(URI uri) {
+        return get(uri, Integer.MAX_VALUE);
+    }
+
+    // documents는 앞에서부터 maxDocuments개까지만 읽음 (예: 주소 검색은 첫 번째 결과만 사용)
+    public KakaoApiResponseDto get(URI uri, int maxDocuments) {
+        try {
+            return kakaoAsyncApiClient.getAsync(uri, maxDocuments).join();
+        } catch (CompletionException e) {
+            // 호출 예산 초과 등 비동기 호출이 실패한 예외를 그대로 전달
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.my.backend.client;
+
+import com.my.backend.dto.KakaoApiResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 로컬 API 클라이언트 (JDK HttpClient.sendAsync). 블로킹 호출(KakaoApiClient)도 이 클래스의 결과를 기다립니다.
+ * 응답을 기다리는 동안 스레드를 점유하지 않으므로 HttpClient 실행기의 몇 개 스레드로 수천 건의 요청을 동시에 진행할 수 있습니다.
+ * - 인증 헤더는 한 번만 만들어 재사용
+ * - 5xx / 429 응답은 지터를 둔 지수 백오프로 재시도 (대기 중에도 스레드를 점유하지 않음)
+ * - 같은 URI로 동시에 들어온 요청은 하나의 호출로 합침 (in-flight coalescing)
+ * - 응답은 KakaoResponseParser로 스트리밍 파싱 (필요한 필드와 문서 수만 읽음)
+ * 오류 시에는 null로 완료되고, 호출 예산(KakaoRateLimiter) 초과와 재시도 후에도 429인 경우만 KakaoQuotaExceededException으로 실패합니다.
+ * 호출 시간은 kakao.api.requests(path, outcome), 실패 응답은 kakao.api.errors(path, status)로 기록합니다.
+ */
+@Component
+@Slf4j
+public class KakaoAsyncApiClient {
+
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+    private final KakaoRateLimiter kakaoRateLimiter;
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final String authorization;
+
+    // 진행 중인 요청 (URI, 읽을 문서 수 → 결과)
+    private final ConcurrentHashMap<FlightKey, CompletableFuture<KakaoApiResponseDto>> inFlight = new ConcurrentHashMap<>();
+
+    public KakaoAsyncApiClient(HttpClient kakaoHttpClient,
+                               MeterRegistry meterRegistry,
+                               KakaoRateLimiter kakaoRateLimiter,
+                               @Value("${MY_KAKAO_KEY}") String kakaoRestApiKey,
+                               @Value("${app.kakao.base-url:https://dapi.kakao.com}") String baseUrl,
+                               @Value("${app.kakao.read-timeout-ms:3000}") long readTimeoutMillis,
+                               @Value("${app.kakao.max-retries:2}") int maxRetries,
+                               @Value("${app.kakao.retry-backoff-ms:100}") long retryBackoffMillis) {
+        this.httpClient = kakaoHttpClient;
+        this.meterRegistry = meterRegistry;
+        this.kakaoRateLimiter = kakaoRateLimiter;
+        this.baseUrl = baseUrl;
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.authorization = kakaoRestApiKey == null || kakaoRestApiKey.isEmpty() ? null : "KakaoAK " + kakaoRestApiKey;
+    }
+
+    // 예: uriBuilder("/v2/local/search/address.json").queryParam("query", address)
+    public UriComponentsBuilder uriBuilder(String path) {
+        return UriComponentsBuilder.fromUriString(baseUrl + path);
+    }
+
+    public CompletableFuture<KakaoApiResponseDto> getAsync(URI uri, int maxDocuments) {
+        if (authorization == null) {
+            log.error("카카오 API 키가 설정되지 않았습니다.");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        FlightKey key = new FlightKey(uri, maxDocuments);
+        CompletableFuture<KakaoApiResponseDto> flight = new CompletableFuture<>();
+        CompletableFuture<KakaoApiResponseDto> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            log.debug("진행 중인 카카오 요청에 합류: {}", uri);
+            return existing;
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header("KA", "sdk/1.0 os/spring origin/http://localhost:8080")
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .GET()
+                .build();
+        send(request, maxDocuments, 0).whenComplete((response, error) -> {
+            inFlight.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(error);
+            } else {
+                flight.complete(response);
+            }
+        });
+        return flight;
+    }
+
+    private CompletableFuture<KakaoApiResponseDto> send(HttpRequest request, int maxDocuments, int attempt) {
+        String path = request.uri().getPath();
+        if (!kakaoRateLimiter.tryAcquire()) {
+            log.warn("카카오 API 호출 예산 초과: {}", path);
+            return CompletableFuture.failedFuture(new KakaoQuotaExceededException("카카오 API 호출 예산 초과"));
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        // 네트워크/IO 에러 (타임아웃 포함)
+                        sample.stop(requestTimer(path, "error"));
+                        countError(path, "io");
+                        log.error("카카오 API 호출 중 일반 에러 발생: {}", error.getMessage());
+                        return CompletableFuture.<KakaoApiResponseDto>completedFuture(null);
+                    }
+                    int status = response.statusCode();
+                    if (status >= 200 && status < 300) {
+                        sample.stop(requestTimer(path, "success"));
+                        return CompletableFuture.completedFuture(parse(response.body(), maxDocuments, path));
+                    }
+                    sample.stop(requestTimer(path, "error"));
+                    countError(path, String.valueOf(status));
+                    if (status == 429 && attempt >= maxRetries) {
+                        log.error("카카오 API 호출 한도 초과 (429), 재시도 소진");
+                        return CompletableFuture.<KakaoApiResponseDto>failedFuture(
+                                new KakaoQuotaExceededException("카카오 API 호출 한도 초과 (429)"));
+                    }
+                    if (!(status >= 500 || status == 429) || attempt >= maxRetries) {
+                        // 4xx (401 Unauthorized, 400 Bad Request 등) 또는 재시도 소진
+                        log.error("카카오 API 호출 중 에러 발생 ({})", status);
+                        return CompletableFuture.<KakaoApiResponseDto>completedFuture(null);
+                    }
+                    log.warn("카카오 API {} 응답, 재시도 {}/{}", status, attempt + 1, maxRetries);
+                    // full jitter 대기 후 재시도 (대기 중에도 스레드를 점유하지 않음)
+                    long delay = ThreadLocalRandom.current().nextLong((retryBackoffMillis << Math.min(attempt, 10)) + 1);
+                    return CompletableFuture.supplyAsync(() -> null, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> send(request, maxDocuments, attempt + 1));
+                })
+                .thenCompose(future -> future);
+    }
+
+    private KakaoApiResponseDto parse(byte[] body, int maxDocuments, String path) {
+        try {
+            return KakaoResponseParser.parse(body, maxDocuments);
+        } catch (IOException e) {
+            countError(path, "parse");
+            log.error("카카오 API 응답 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 재시도 한 번 한 번을 따로 기록 (카카오 자체 지연과 재시도로 늘어난 지연을 구분하기 위함)
+    private Timer requestTimer(String path, String outcome) {
+        return Timer.builder("kakao.api.requests")
+                .description("카카오 로컬 API 호출 시간 (시도 단위)")
+                .tag("path", path)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void countError(String path, String status) {
+        Counter.builder("kakao.api.errors")
+                .description("카카오 로컬 API 오류 응답 수")
+                .tag("path", path)
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record FlightKey(URI uri, int maxDocuments) {
+    }
+}
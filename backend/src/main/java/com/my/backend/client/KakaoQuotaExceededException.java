@@ -0,0 +1,12 @@
+package com.my.backend.client;
+
+/**
+ * 카카오 호출 예산(KakaoRateLimiter)을 넘었거나, 카카오가 429로 응답하고 재시도도 소진한 경우.
+ * 다른 오류와 달리 null로 삼키지 않고 던지므로, 검색 서비스가 빈 결과 대신 로컬 데이터로 응답하거나 503을 돌려줄 수 있습니다.
+ */
+public class KakaoQuotaExceededException extends RuntimeException {
+
+    public KakaoQuotaExceededException(String message) {
+        super(message);
+    }
+}
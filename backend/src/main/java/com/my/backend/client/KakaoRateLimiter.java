@@ -0,0 +1,52 @@
+package com.my.backend.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카카오 API 키의 호출 예산 (토큰 버킷: 초당 permits-per-second개 충전, 최대 burst개 누적).
+ * 키 하나를 모든 요청이 공유하므로 인스턴스도 하나이고, 재시도도 한 번의 호출로 셉니다.
+ * 토큰이 없으면 기다리지 않고 바로 거절합니다. (대기하면 그만큼 요청 스레드가 쌓임)
+ * GCRA 방식으로 "다음 토큰이 생기는 시각" 하나만 CAS로 갱신하므로 잠금이 없습니다.
+ */
+@Component
+public class KakaoRateLimiter {
+
+    // 토큰 하나가 충전되는 간격, 버스트 허용 구간 (ns). 0이면 제한 없음
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+    private final Counter throttled;
+
+    public KakaoRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${app.kakao.rate-limit.permits-per-second:20}") double permitsPerSecond,
+                            @Value("${app.kakao.rate-limit.burst:40}") int burst) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (1_000_000_000L / permitsPerSecond) : 0;
+        this.burstToleranceNanos = intervalNanos * Math.max(burst - 1, 0);
+        this.throttled = Counter.builder("kakao.api.throttled")
+                .description("호출 예산 초과로 보내지 않은 카카오 요청 수")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        if (intervalNanos == 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = arrival - now > 0 ? arrival : now;
+            if (start - now > burstToleranceNanos) {
+                throttled.increment();
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
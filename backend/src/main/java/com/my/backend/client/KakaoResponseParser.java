@@ -0,0 +1,117 @@
+package com.my.backend.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.KakaoApiResponseDto;
+import com.my.backend.dto.MetaDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카카오 로컬 API 응답 스트리밍 파서.
+ * 데이터 바인딩 대신 JsonParser로 토큰을 직접 읽어 사용하는 필드(place_name, address_name, x, y, distance,
+ * meta.total_count, meta.is_end)만 꺼내고, 나머지 필드(road_address, phone, place_url 등)는 문자열로 만들지 않고 건너뜁니다.
+ * maxDocuments개를 채우면 남은 documents도 건너뛰고, meta까지 읽었으면 스트림을 더 읽지 않고 끝냅니다.
+ */
+public final class KakaoResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private KakaoResponseParser() {
+    }
+
+    public static KakaoApiResponseDto parse(InputStream body, int maxDocuments) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return parse(parser, maxDocuments);
+        }
+    }
+
+    public static KakaoApiResponseDto parse(byte[] body, int maxDocuments) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return parse(parser, maxDocuments);
+        }
+    }
+
+    static KakaoApiResponseDto parse(JsonParser parser, int maxDocuments) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("카카오 응답이 JSON 객체가 아닙니다.");
+        }
+
+        List<DocumentDto> documents = null;
+        MetaDto meta = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            if ("documents".equals(field) && value == JsonToken.START_ARRAY) {
+                documents = readDocuments(parser, maxDocuments);
+            } else if ("meta".equals(field) && value == JsonToken.START_OBJECT) {
+                meta = readMeta(parser);
+            } else {
+                parser.skipChildren();
+            }
+            if (documents != null && meta != null) {
+                // 필요한 것은 다 읽었으므로 나머지 본문은 파싱하지 않음
+                break;
+            }
+        }
+
+        KakaoApiResponseDto response = new KakaoApiResponseDto();
+        response.setDocumentList(documents == null ? List.of() : documents);
+        response.setMetaDto(meta);
+        return response;
+    }
+
+    private static List<DocumentDto> readDocuments(JsonParser parser, int maxDocuments) throws IOException {
+        List<DocumentDto> documents = new ArrayList<>(Math.min(Math.max(maxDocuments, 0), 15));
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT && documents.size() < maxDocuments) {
+                documents.add(readDocument(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return documents;
+    }
+
+    private static DocumentDto readDocument(JsonParser parser) throws IOException {
+        DocumentDto.DocumentDtoBuilder builder = DocumentDto.builder();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            // 필드 이름은 JsonParser가 캐시한 canonical 문자열이라 비교 시 새로 만들지 않음
+            switch (field) {
+                case "place_name" -> builder.placeName(parser.getValueAsString());
+                case "address_name" -> builder.addressName(parser.getValueAsString());
+                // 카카오는 좌표/거리를 문자열("127.02", "120")로 내려주며, 주소 검색은 distance가 없음
+                case "x" -> builder.longitude(parser.getValueAsDouble());
+                case "y" -> builder.latitude(parser.getValueAsDouble());
+                case "distance" -> builder.distance(parser.getValueAsDouble());
+                default -> parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    private static MetaDto readMeta(JsonParser parser) throws IOException {
+        Integer totalCount = null;
+        Boolean isEnd = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            if ("total_count".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                totalCount = parser.getIntValue();
+            } else if ("is_end".equals(field) && value.isBoolean()) {
+                isEnd = parser.getBooleanValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new MetaDto(totalCount, isEnd);
+    }
+}
@@ -0,0 +1,38 @@
+package com.my.backend.config;
+
+import com.my.backend.dto.ImportResultDto;
+import com.my.backend.service.PharmacyImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 약국 CSV 적재 (명령행 적재용).
+ * 예: java -jar backend.jar --app.import.file=pharmacies.csv
+ * 서버가 요청을 받기 전에 적재하므로, 처음 뜨는 인스턴스도 전국 주변 약국 조회를 바로 처리할 수 있습니다.
+ * (AOT 처리에서는 조건부 빈이 빌드 시점에 고정되므로 @ConditionalOnProperty 대신 실행 시점에 값을 확인)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PharmacyImportRunner implements ApplicationRunner {
+
+    private final PharmacyImportService pharmacyImportService;
+
+    @Value("${app.import.file:}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (file.isBlank()) {
+            return;
+        }
+        ImportResultDto result = pharmacyImportService.importCsv(file);
+        if (!"COMPLETED".equals(result.getStatus())) {
+            log.error("시작 시 약국 데이터 적재 실패 (다음 실행에서 체크포인트부터 이어서 적재): {}", result.getError());
+        }
+    }
+}
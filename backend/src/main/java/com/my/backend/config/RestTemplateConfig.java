@@ -1,18 +1,40 @@
 package com.my.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class RestTemplateConfig {
 
     /**
-     * 외부 API 호출을 위한 RestTemplate Bean을 등록합니다.
-     * KakaoAddressSearchService와 같은 서비스에서 DI를 통해 사용할 수 있게 합니다.
+     * 외부 API 호출에 공유하는 JDK HttpClient.
+     * 커넥션을 keep-alive 풀로 재사용하므로 호출마다 TCP/TLS 핸드셰이크를 하지 않습니다.
+     * 응답 처리(비동기 검색의 후속 단계 포함)는 client-threads개 스레드에서만 실행됩니다.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient kakaoHttpClient(@Value("${app.kakao.connect-timeout-ms:1000}") long connectTimeoutMillis,
+                                      ExecutorService kakaoClientExecutor) {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(kakaoClientExecutor)
+                .build();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService kakaoClientExecutor(@Value("${app.kakao.client-threads:4}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "kakao-client-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
-}
\ No newline at end of file
+}
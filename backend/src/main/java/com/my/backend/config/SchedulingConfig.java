@@ -0,0 +1,13 @@
+package com.my.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (검색 로그 집계/캐시 예열 SearchWarmUp).
+ * 기본 스케줄러는 스레드 하나이므로 오래 걸리는 작업은 자체 제한 시간을 둡니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
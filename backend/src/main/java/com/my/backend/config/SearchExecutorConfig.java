@@ -0,0 +1,83 @@
+package com.my.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class SearchExecutorConfig {
+
+    /**
+     * 일괄 주소 검색 전용 스레드 풀.
+     * 스레드 수가 곧 카카오 동시 호출 상한이므로 app.search.batch.concurrency로 조절합니다.
+     * 모든 일괄 요청이 대기열을 나눠 쓰므로 크기를 제한하고, 넘치는 항목은 거부(REJECTED)합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService batchSearchExecutor(@Value("${app.search.batch.concurrency:8}") int concurrency,
+                                               @Value("${app.search.batch.queue-capacity:2000}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "batch-search-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 스트리밍 검색(SSE) 응답 쓰기 전용 스레드 풀.
+     * SSE 쓰기는 서블릿 출력 스트림에 블로킹으로 쓰므로, 카카오 HttpClient 스레드 대신 여기서 씁니다.
+     * 대기열이 가득 차면 쓰기를 거부(해당 검색은 error로 종료)해서 느린 클라이언트가 메모리를 계속 잡지 않게 합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService searchStreamWriterExecutor(@Value("${app.search.stream.writer-threads:8}") int threads,
+                                                      @Value("${app.search.stream.writer-queue:1000}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-stream-writer-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 커버리지 분석(격자 셀별 최근접 약국 계산) 전용 fork/join 풀.
+     * CPU만 쓰는 작업이라 기본값(0)은 코어 수만큼이고, CompletableFuture가 쓰는 공용 풀과 나눠서 검색 응답이 밀리지 않게 합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool coverageAnalysisPool(@Value("${app.coverage.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("coverage-" + thread.getPoolIndex());
+                    thread.setDaemon(true);
+                    return thread;
+                }, null, false);
+    }
+
+    /**
+     * 스트리밍 검색 결과 저장 전용 스레드.
+     * 비동기 검색의 후속 단계는 카카오 HttpClient 스레드에서 실행되므로, DB 저장(큐가 가득 차면 직접 저장)은
+     * 이 스레드로 넘겨 HttpClient 스레드가 DB를 기다리지 않게 합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService searchPersistExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-persist");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.my.backend.config;
+
+import com.my.backend.cache.CircuitBreakingSharedCacheStore;
+import com.my.backend.cache.InMemorySharedCacheStore;
+import com.my.backend.cache.RedisSharedCacheStore;
+import com.my.backend.cache.SharedCacheStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * 인스턴스 간 공유 캐시(L2)와 변경 알림 채널 선택 (app.cache.shared.type)
+ * - none (기본): 공유하지 않음. 인스턴스마다 L1 캐시만 사용
+ * - local: 같은 JVM 안에서만 공유 (테스트, 단일 인스턴스 확인용)
+ * - redis: spring.data.redis 설정의 Redis 사용 (여러 인스턴스 배포)
+ *   호출이 실패하면 retry-after-failure-ms 동안 Redis를 부르지 않고 L1만 사용 (CircuitBreakingSharedCacheStore)
+ * AOT 처리(빠른 시작 모드)에서는 @ConditionalOnProperty가 빌드 시점 값으로 고정되므로, 실행 시점에 값을 보고 고릅니다.
+ */
+@Configuration
+public class SharedCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public SharedCacheStore sharedCacheStore(@Value("${app.cache.shared.type:none}") String type,
+                                             @Value("${app.cache.shared.retry-after-failure-ms:5000}") long retryAfterFailureMillis,
+                                             ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        return switch (type) {
+            case "none" -> SharedCacheStore.none();
+            case "local" -> new InMemorySharedCacheStore();
+            case "redis" -> new CircuitBreakingSharedCacheStore(
+                    RedisSharedCacheStore.create(redisConnectionFactory.getObject()), retryAfterFailureMillis);
+            default -> throw new IllegalArgumentException("알 수 없는 app.cache.shared.type: " + type);
+        };
+    }
+}
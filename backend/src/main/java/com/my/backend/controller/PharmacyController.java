@@ -1,17 +1,46 @@
 package com.my.backend.controller;
 
+import com.my.backend.autocomplete.AddressAutocompleteService;
 import com.my.backend.entity.Pharmacy;
+import com.my.backend.readmodel.PharmacyReadModel;
+import com.my.backend.readmodel.PharmacySnapshot;
+import com.my.backend.searchlog.SearchEventLog;
+import com.my.backend.service.CoverageAnalysisBusyException;
+import com.my.backend.service.PharmacyBatchSearchService;
+import com.my.backend.service.PharmacyCoverageService;
+import com.my.backend.service.PharmacyImportService;
 import com.my.backend.service.PharmacyService;
+import com.my.backend.service.PharmacyStreamSearchService;
+import com.my.backend.service.PharmacyTableVersion;
+import com.my.backend.service.SearchUnavailableException;
+import com.my.backend.dto.AddressSuggestionDto;
+import com.my.backend.dto.BatchSearchResultDto;
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.ImportResultDto;
 import com.my.backend.dto.OutputDto;
 import com.my.backend.dto.SearchRequestDto;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/api/pharmacies")
@@ -20,18 +49,151 @@ import java.util.List;
 // ⭐ @CrossOrigin 제거 - CorsConfig에서 전역 설정으로 처리
 public class PharmacyController {
 
+    // /stream을 DB에서 읽을 때 한 번에 조회하는 행 수 (페이지마다 짧은 조회라 쓰는 동안 DB 커넥션을 붙잡지 않음)
+    private static final int STREAM_PAGE_SIZE = 500;
+
     private final PharmacyService pharmacyService;
+    private final PharmacyStreamSearchService pharmacyStreamSearchService;
+    private final PharmacyBatchSearchService pharmacyBatchSearchService;
+    private final PharmacyImportService pharmacyImportService;
+    private final PharmacyTableVersion pharmacyTableVersion;
+    private final PharmacyReadModel pharmacyReadModel;
+    private final SearchEventLog searchEventLog;
+    private final AddressAutocompleteService addressAutocompleteService;
+    private final PharmacyCoverageService pharmacyCoverageService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.search.batch.max-items:1000}")
+    private int batchMaxItems;
+
+    @Value("${app.search.stream.timeout-ms:10000}")
+    private long streamTimeoutMillis;
+
+    @Value("${app.search.admission.retry-after-seconds:1}")
+    private long retryAfterSeconds;
 
     /**
      * 주소 검색 및 약국 저장 (카카오 API 호출 및 DB 저장)
      */
     @PostMapping("/search")
     public ResponseEntity<List<OutputDto>> searchAndSave(@RequestBody SearchRequestDto request) {
-        log.info("약국 검색 및 저장 요청: 주소={}", request.getAddress());
-        List<OutputDto> results = pharmacyService.searchAndSavePharmacies(request.getAddress());
+        log.info("약국 검색 및 저장 요청: {}", request);
+        List<OutputDto> results = pharmacyService.searchAndSavePharmacies(request);
+        // 자주 찾는 주소/지역 집계와 재시작 후 캐시 예열용 (링 버퍼에 넣기만 함)
+        searchEventLog.record(request.getAddress(), PharmacyService.searchRadius(request.getDistance()), results.size());
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * 주소 자동완성 (이미 좌표를 아는 주소만, 카카오 호출 없음)
+     * 고른 항목의 latitude/longitude를 검색 요청에 같이 보내면 주소 검색을 생략
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AddressSuggestionDto>> autocomplete(@RequestParam String q,
+                                                                   @RequestParam(defaultValue = "8") int limit) {
+        return ResponseEntity.ok(addressAutocompleteService.suggest(q, Math.min(Math.max(limit, 1), 20)));
+    }
+
+    /**
+     * 주소 검색 스트리밍 (SSE, 카카오 호출 대기 중 서블릿/작업 스레드를 점유하지 않음)
+     * 이벤트: origin(기준 좌표) → result(OutputDto, 찾는 대로 하나씩) → done(보낸 개수), 실패/과부하 시 error
+     */
+    @GetMapping(value = "/search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter searchStream(@RequestParam String address,
+                                   @RequestParam(required = false) Double distance,
+                                   @RequestParam(required = false) Integer count,
+                                   @RequestParam(required = false) Double latitude,
+                                   @RequestParam(required = false) Double longitude) {
+        SearchRequestDto request = new SearchRequestDto();
+        request.setAddress(address);
+        request.setDistance(distance);
+        request.setCount(count);
+        request.setLatitude(latitude);
+        request.setLongitude(longitude);
+        log.info("약국 스트리밍 검색 요청: {}", request);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        emitter.onTimeout(() -> cancelled.set(true));
+        emitter.onError(error -> cancelled.set(true));
+        emitter.onCompletion(() -> cancelled.set(true));
+
+        pharmacyStreamSearchService.search(request, new PharmacyStreamSearchService.Listener() {
+            @Override
+            public void onOrigin(DocumentDto origin) {
+                sendEvent(emitter, cancelled, "origin",
+                        Map.of("latitude", origin.getLatitude(), "longitude", origin.getLongitude()));
+            }
+
+            @Override
+            public void onResult(OutputDto result) {
+                sendEvent(emitter, cancelled, "result", result);
+            }
+        }, cancelled).whenComplete((sent, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof SearchUnavailableException) {
+                log.warn("검색 거절: {}", cause.getMessage());
+                sendEvent(emitter, cancelled, "error", "검색 요청이 많아 잠시 후 다시 시도해 주세요.");
+            } else if (error != null) {
+                log.error("약국 스트리밍 검색 실패: {}", address, error);
+                sendEvent(emitter, cancelled, "error", "검색 중 오류가 발생했습니다.");
+            } else {
+                sendEvent(emitter, cancelled, "done", sent);
+                searchEventLog.record(address, PharmacyService.searchRadius(distance), sent);
+            }
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    // 클라이언트가 연결을 끊었으면 이후 이벤트는 버림
+    private static void sendEvent(SseEmitter emitter, AtomicBoolean cancelled, String name, Object data) {
+        if (cancelled.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            cancelled.set(true);
+            log.debug("스트리밍 검색 응답 전송 중단: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 주소 일괄 검색 및 저장 (항목별 결과/실패를 요청 순서대로 반환)
+     */
+    @PostMapping("/search/batch")
+    public ResponseEntity<List<BatchSearchResultDto>> searchAndSaveBatch(@RequestBody List<SearchRequestDto> requests) {
+        log.info("약국 일괄 검색 요청: {}건", requests.size());
+        if (requests.size() > batchMaxItems) {
+            log.warn("일괄 검색 요청 건수 초과: {} > {}", requests.size(), batchMaxItems);
+            return ResponseEntity.badRequest().build();
+        }
+        List<BatchSearchResultDto> results = pharmacyBatchSearchService.searchAll(requests);
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * 약국 CSV 대량 적재 (file: app.import.directory 안의 파일 이름)
+     * 실패하거나 중단된 적재는 같은 파일로 다시 요청하면 체크포인트부터 이어서 진행합니다.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ImportResultDto> importPharmacies(@RequestParam String file) {
+        log.info("약국 데이터 적재 요청: {}", file);
+        try {
+            ImportResultDto result = pharmacyImportService.importCsv(file);
+            return "COMPLETED".equals(result.getStatus())
+                    ? ResponseEntity.ok(result)
+                    : ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("약국 데이터 적재 요청 거부: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("약국 데이터 적재 요청 거부: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     /**
      * 약국 등록 (개별 저장)
      */
@@ -44,12 +206,120 @@ public class PharmacyController {
 
     /**
      * 모든 약국 조회
+     * 목록 API들은 테이블 버전 기반 ETag를 붙이고, If-None-Match가 현재 버전과 같으면 조회 없이 304로 응답합니다.
+     * (Cache-Control: no-cache 이므로 브라우저는 캐시해 두고 매번 재검증 요청만 보냄)
+     * 읽기 모델이 적재되어 있으면 DB 조회와 직렬화 없이 스냅샷의 JSON 바이트로 응답하고, ETag도 그 스냅샷 버전으로 만듭니다.
      */
     @GetMapping
-    public ResponseEntity<List<Pharmacy>> getAllPharmacies() {
+    public ResponseEntity<byte[]> getAllPharmacies(WebRequest webRequest) throws IOException {
+        PharmacySnapshot snapshot = pharmacyReadModel.snapshot();
+        String etag = snapshot != null
+                ? pharmacyTableVersion.etagAt(snapshot.version(), "snapshot", "all")
+                : pharmacyTableVersion.etag("all");
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         log.info("모든 약국 조회 요청");
-        List<Pharmacy> pharmacies = pharmacyService.getAllPharmacies();
-        return ResponseEntity.ok(pharmacies);
+        byte[] body = snapshot != null
+                ? snapshot.allJson()
+                : objectMapper.writeValueAsBytes(pharmacyService.getAllPharmacies());
+        return jsonResponse(etag, body);
+    }
+
+    /**
+     * 약국 목록 키셋 페이지 조회 (cursor: 이전 응답의 nextCursor, size: 페이지 크기)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<byte[]> getPharmacyPage(@RequestParam(required = false) Long cursor,
+                                                  @RequestParam(defaultValue = "100") int size,
+                                                  WebRequest webRequest) throws IOException {
+        int pageSize = Math.min(Math.max(size, 1), 1000);
+        PharmacySnapshot snapshot = pharmacyReadModel.snapshot();
+        String etag = snapshot != null
+                ? pharmacyTableVersion.etagAt(snapshot.version(), "snapshot", "page", cursor == null ? 0 : cursor, pageSize)
+                : pharmacyTableVersion.etag("page", cursor == null ? 0 : cursor, pageSize);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        log.info("약국 페이지 조회 요청: cursor={}, size={}", cursor, size);
+        byte[] body = snapshot != null
+                ? snapshot.pageJson(cursor, pageSize)
+                : objectMapper.writeValueAsBytes(pharmacyService.getPharmacyPage(cursor, pageSize));
+        return jsonResponse(etag, body);
+    }
+
+    /**
+     * 모든 약국 스트리밍 조회 (NDJSON, 한 줄에 약국 하나)
+     * 전체 목록을 메모리에 올리지 않고 DB에서 키셋 페이지 단위로 읽는 대로 응답에 씁니다. (읽기 모델이 있으면 스냅샷의 행 JSON을 그대로 씀)
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamPharmacies(WebRequest webRequest) {
+        PharmacySnapshot snapshot = pharmacyReadModel.snapshot();
+        String etag = snapshot != null
+                ? pharmacyTableVersion.etagAt(snapshot.version(), "snapshot", "stream")
+                : pharmacyTableVersion.etag("stream");
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        log.info("모든 약국 스트리밍 조회 요청");
+        StreamingResponseBody body = snapshot != null ? snapshot::writeNdjson : outputStream ->
+                // 페이지를 다 쓸 때마다 flush (첫 페이지부터 바로 화면에 그려지도록)
+                pharmacyService.streamAllPharmacies(STREAM_PAGE_SIZE, page -> {
+                    try {
+                        for (Pharmacy pharmacy : page) {
+                            outputStream.write(objectMapper.writeValueAsBytes(pharmacy));
+                            outputStream.write('\n');
+                        }
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * 주변 약국 조회 (DB에 저장된 약국을 메모리 공간 인덱스에서 검색, 카카오 호출 없음)
+     * radius: 반경(m), limit: 최대 개수
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<OutputDto>> getNearbyPharmacies(@RequestParam double latitude,
+                                                               @RequestParam double longitude,
+                                                               @RequestParam(defaultValue = "1000") double radius,
+                                                               @RequestParam(defaultValue = "10") int limit) {
+        log.info("주변 약국 조회 요청: 위도={}, 경도={}, 반경={}m", latitude, longitude, radius);
+        List<OutputDto> results = pharmacyService.findNearbyPharmacies(
+                latitude, longitude, radius, Math.min(Math.max(limit, 1), 100));
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * 약국 커버리지 분석 (NDJSON, 저장된 약국만 사용하고 카카오 호출 없음)
+     * 남/서/북/동 경계를 cellMeters(m) 격자로 나눠 셀마다 최근접 약국 거리(m)와 radius(m) 안 약국 수를 계산합니다.
+     * 첫 줄은 격자 정보, 이후 한 줄에 한 행(북쪽부터)씩 계산되는 대로 씁니다.
+     */
+    @GetMapping(value = "/coverage", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> analyzeCoverage(@RequestParam double south,
+                                                                 @RequestParam double west,
+                                                                 @RequestParam double north,
+                                                                 @RequestParam double east,
+                                                                 @RequestParam(defaultValue = "100") double cellMeters,
+                                                                 @RequestParam(defaultValue = "500") double radius) {
+        log.info("약국 커버리지 분석 요청: ({}, {}) ~ ({}, {}), 셀 {}m, 반경 {}m", south, west, north, east, cellMeters, radius);
+        PharmacyCoverageService.Analysis analysis;
+        try {
+            analysis = pharmacyCoverageService.prepare(south, west, north, east, cellMeters, radius);
+        } catch (IllegalArgumentException e) {
+            log.warn("약국 커버리지 분석 요청 거부: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(analysis::writeNdjson);
     }
 
     /**
@@ -62,6 +332,50 @@ public class PharmacyController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 과부하로 검색을 처리할 수 없고 대신 내줄 로컬 데이터도 없을 때 (빈 목록 대신 503으로 재시도를 유도)
+     */
+    @ExceptionHandler(SearchUnavailableException.class)
+    public ResponseEntity<Void> searchUnavailable(SearchUnavailableException e) {
+        log.warn("검색 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .build();
+    }
+
+    /**
+     * 커버리지 분석이 이미 진행 중일 때 (prepare에서, 또는 응답 본문을 쓰기 시작할 때 허가를 얻지 못한 경우)
+     */
+    /**
+     * 같은 (이름, 주소) 약국을 동시에 처음 저장하는 경우 등 유니크 키 위반 (다시 저장하면 기존 행을 갱신)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Void> conflict(DataIntegrityViolationException e) {
+        log.warn("약국 저장 충돌: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler(CoverageAnalysisBusyException.class)
+    public ResponseEntity<Void> coverageBusy(CoverageAnalysisBusyException e) {
+        log.warn("약국 커버리지 분석 요청 거부: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    private static ResponseEntity<byte[]> jsonResponse(String etag, byte[] body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
     /**
      * Health Check
      */
@@ -0,0 +1,15 @@
+package com.my.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+// 주소 자동완성 항목 (좌표를 같이 넘겨서 선택하면 검색 시 주소 검색을 생략)
+@Getter
+@ToString
+@Builder
+public class AddressSuggestionDto {
+    private String address;
+    private double latitude;
+    private double longitude;
+}
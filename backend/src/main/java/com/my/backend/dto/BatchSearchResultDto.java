@@ -0,0 +1,21 @@
+package com.my.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@Builder
+public class BatchSearchResultDto {
+    // 요청 순서상의 위치 (0부터 시작)
+    private int index;
+    private String address;
+    // OK, EMPTY, TIMEOUT, REJECTED(대기열 가득 참), INVALID(주소 없음), FAILED
+    private String status;
+    private List<OutputDto> results;
+    // 실패 시 원인 메시지
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.my.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+// 커버리지 분석 응답의 첫 줄 (격자 정보). 셀 (row, col)의 중심은 (north - (row + 0.5) * latStep, west + (col + 0.5) * lonStep)
+@Getter
+@ToString
+@Builder
+public class CoverageHeaderDto {
+    private double north;
+    private double west;
+    private double latStep;
+    private double lonStep;
+    private int rows;
+    private int cols;
+    private double cellMeters;
+    // counts를 센 반경(m)
+    private double radius;
+    // nearest가 이 거리(m)보다 멀면 -1
+    private double maxNearest;
+    // 분석에 사용한 약국 수 (영역 주변에 있는 것만)
+    private int pharmacies;
+}
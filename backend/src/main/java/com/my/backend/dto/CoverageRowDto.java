@@ -0,0 +1,15 @@
+package com.my.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 커버리지 분석 응답의 격자 한 행 (0행이 북쪽, 열은 서쪽부터)
+@Getter
+@Builder
+public class CoverageRowDto {
+    private int row;
+    // 셀 중심에서 가장 가까운 약국까지 거리 (m, 없으면 -1)
+    private int[] nearest;
+    // 셀 중심에서 반경 안의 약국 수
+    private int[] counts;
+}
@@ -0,0 +1,24 @@
+package com.my.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+public class ImportResultDto {
+    private String file;
+    // COMPLETED, FAILED (실패 시 다시 요청하면 체크포인트부터 이어서 적재)
+    private String status;
+    private int totalChunks;
+    // 이전 실행에서 이미 끝나 건너뛴 청크 수
+    private int skippedChunks;
+    private int completedChunks;
+    private long rowsRead;
+    private long rowsWritten;
+    // 필수 컬럼 누락, 좌표 형식 오류 등으로 건너뛴 행 수
+    private long rowsRejected;
+    private long elapsedMillis;
+    private String error;
+}
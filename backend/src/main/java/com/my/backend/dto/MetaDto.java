@@ -1,12 +1,19 @@
 package com.my.backend.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Getter
 @ToString
+@NoArgsConstructor
+@AllArgsConstructor
 public class MetaDto {
     @JsonProperty("total_count")
     private Integer totalCount;
+    // 현재 페이지가 마지막 페이지인지 여부
+    @JsonProperty("is_end")
+    private Boolean isEnd;
 }
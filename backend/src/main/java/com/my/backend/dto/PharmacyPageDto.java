@@ -0,0 +1,17 @@
+package com.my.backend.dto;
+
+import com.my.backend.entity.Pharmacy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@Builder
+public class PharmacyPageDto {
+    private List<Pharmacy> items;
+    // 다음 페이지 요청 시 cursor로 전달할 값 (마지막 페이지면 null)
+    private Long nextCursor;
+}
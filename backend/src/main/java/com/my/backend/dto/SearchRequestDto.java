@@ -13,4 +13,11 @@ public class SearchRequestDto {
 
     // (선택 사항) 거리 필터링에 사용할 기준 거리 (km)
     private Double distance;
+
+    // (선택 사항) 반환할 약국 개수 (기본 3개)
+    private Integer count;
+
+    // (선택 사항) 주소의 좌표를 이미 아는 경우 (자동완성에서 고른 주소) - 있으면 주소 검색을 생략
+    private Double latitude;
+    private Double longitude;
 }
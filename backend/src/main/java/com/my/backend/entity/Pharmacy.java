@@ -7,7 +7,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "pharmacy")
+// 같은 이름의 체인 약국이 주소로 구분되도록 (name, address) 유니크 키 사용 (배치 upsert 기준)
+@Table(name = "pharmacy",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pharmacy_name_address", columnNames = {"name", "address"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,87 @@
+package com.my.backend.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.cache.SharedCacheStore;
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.repository.PharmacyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 배포에서 pharmacy 변경을 다른 인스턴스에 전달합니다. (공유 캐시 채널 사용, app.cache.shared.type=none이면 아무것도 안 함)
+ * 이 인스턴스의 변경은 커밋 후 ID만 담아 "pharmacy:changes" 채널로 보내고,
+ * 다른 인스턴스의 변경을 받으면 해당 행을 DB에서 다시 읽어 PharmacyChangedEvent(remote)로 발행합니다.
+ * 그래서 공간 인덱스, 읽기 모델, 테이블 버전(ETag)이 어느 인스턴스에서 쓴 변경이든 따라갑니다.
+ */
+@Component
+@Slf4j
+public class PharmacyChangeBroadcaster {
+
+    static final String CHANNEL = "pharmacy:changes";
+
+    private final SharedCacheStore sharedCacheStore;
+    private final PharmacyRepository pharmacyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    // 자기 자신이 보낸 메시지를 거르기 위한 인스턴스 ID
+    private final String node = UUID.randomUUID().toString();
+
+    public PharmacyChangeBroadcaster(SharedCacheStore sharedCacheStore,
+                                     PharmacyRepository pharmacyRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ObjectMapper objectMapper) {
+        this.sharedCacheStore = sharedCacheStore;
+        this.pharmacyRepository = pharmacyRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        if (sharedCacheStore.isEnabled()) {
+            sharedCacheStore.subscribe(CHANNEL, this::onMessage);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPharmacyChanged(PharmacyChangedEvent event) {
+        if (event.remote() || !sharedCacheStore.isEnabled()) {
+            return;
+        }
+        List<Long> upsertedIds = new ArrayList<>(event.upserted().size());
+        for (Pharmacy pharmacy : event.upserted()) {
+            if (pharmacy.getId() != null) {
+                upsertedIds.add(pharmacy.getId());
+            }
+        }
+        try {
+            String message = objectMapper.writeValueAsString(
+                    new ChangeMessage(node, upsertedIds, event.deletedIds(), event.bulk()));
+            sharedCacheStore.publish(CHANNEL, message);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 전달하지 못한 변경은 다른 인스턴스가 재시작/대량 적재로 다시 읽을 때까지 반영되지 않음
+            log.warn("약국 변경 전달 실패: {}", e.getMessage());
+        }
+    }
+
+    private void onMessage(String message) {
+        try {
+            ChangeMessage change = objectMapper.readValue(message, ChangeMessage.class);
+            if (node.equals(change.node())) {
+                return;
+            }
+            List<Pharmacy> upserted = change.upsertedIds().isEmpty()
+                    ? List.of()
+                    : pharmacyRepository.findAllById(change.upsertedIds());
+            eventPublisher.publishEvent(PharmacyChangedEvent.remote(upserted, change.deletedIds(), change.bulk()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("다른 인스턴스의 약국 변경 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    record ChangeMessage(String node, List<Long> upsertedIds, List<Long> deletedIds, boolean bulk) {
+    }
+}
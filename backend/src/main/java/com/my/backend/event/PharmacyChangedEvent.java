@@ -0,0 +1,34 @@
+package com.my.backend.event;
+
+import com.my.backend.entity.Pharmacy;
+
+import java.util.List;
+
+/**
+ * pharmacy 테이블 변경 알림.
+ * 저장/삭제 경로(개별 저장, 검색 결과 upsert, 대량 적재)가 발행하고, 공간 인덱스와 테이블 버전(ETag) 등이
+ * 트랜잭션 커밋 후에 받아서 반영합니다.
+ *
+ * @param upserted   추가/갱신된 약국 (ID 포함)
+ * @param deletedIds 삭제된 약국 ID
+ * @param bulk       대량 적재처럼 개별 행을 넘기지 않는 변경 (받는 쪽에서 전체를 다시 읽어야 함)
+ * @param remote     다른 인스턴스에서 일어난 변경 (PharmacyChangeBroadcaster가 받아서 다시 발행한 것, 재전송하지 않음)
+ */
+public record PharmacyChangedEvent(List<Pharmacy> upserted, List<Long> deletedIds, boolean bulk, boolean remote) {
+
+    public static PharmacyChangedEvent upserted(List<Pharmacy> pharmacies) {
+        return new PharmacyChangedEvent(List.copyOf(pharmacies), List.of(), false, false);
+    }
+
+    public static PharmacyChangedEvent deleted(Long id) {
+        return new PharmacyChangedEvent(List.of(), List.of(id), false, false);
+    }
+
+    public static PharmacyChangedEvent bulkLoaded() {
+        return new PharmacyChangedEvent(List.of(), List.of(), true, false);
+    }
+
+    public static PharmacyChangedEvent remote(List<Pharmacy> upserted, List<Long> deletedIds, boolean bulk) {
+        return new PharmacyChangedEvent(List.copyOf(upserted), List.copyOf(deletedIds), bulk, true);
+    }
+}
@@ -0,0 +1,44 @@
+package com.my.backend.geo;
+
+/**
+ * 커버리지 분석 격자. 남/서/북/동 경계를 cellMeters 크기의 셀로 나누고, 각 셀은 중심 좌표로 계산합니다.
+ * 0행이 북쪽, 0열이 서쪽입니다. (히트맵 이미지와 같은 순서)
+ */
+public record CoverageGrid(double north, double west, double latStep, double lonStep, int rows, int cols) {
+
+    /**
+     * 경도 방향 셀 크기는 영역 중앙 위도 기준으로 맞춥니다. (도시 규모에서는 위아래 차이가 1% 안쪽)
+     * 경계가 잘못되었거나 셀 수가 int 범위를 넘으면 IllegalArgumentException.
+     */
+    public static CoverageGrid of(double south, double west, double north, double east, double cellMeters) {
+        if (!(south >= -85 && north <= 85 && south < north)) {
+            throw new IllegalArgumentException("위도 범위가 잘못되었습니다: " + south + " ~ " + north);
+        }
+        if (!(west >= -180 && east <= 180 && west < east)) {
+            throw new IllegalArgumentException("경도 범위가 잘못되었습니다: " + west + " ~ " + east);
+        }
+        if (!(cellMeters > 0)) {
+            throw new IllegalArgumentException("셀 크기가 잘못되었습니다: " + cellMeters);
+        }
+        double latStep = cellMeters / GeoUtils.METERS_PER_DEGREE_LATITUDE;
+        double lonStep = cellMeters / GeoUtils.metersPerDegreeLongitude((south + north) / 2);
+        double rows = Math.ceil((north - south) / latStep);
+        double cols = Math.ceil((east - west) / lonStep);
+        if (rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("격자 셀이 너무 많습니다: " + (long) rows + " x " + (long) cols);
+        }
+        return new CoverageGrid(north, west, latStep, lonStep, (int) rows, (int) cols);
+    }
+
+    public long cells() {
+        return (long) rows * cols;
+    }
+
+    public double latitude(int row) {
+        return north - (row + 0.5) * latStep;
+    }
+
+    public double longitude(int col) {
+        return west + (col + 0.5) * lonStep;
+    }
+}
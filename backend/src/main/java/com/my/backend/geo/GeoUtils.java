@@ -0,0 +1,32 @@
+package com.my.backend.geo;
+
+/**
+ * 위경도 좌표 계산 유틸리티.
+ */
+public final class GeoUtils {
+
+    // 지구 평균 반지름 (m)
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // 위도 1도의 길이 (m)
+    public static final double METERS_PER_DEGREE_LATITUDE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    private GeoUtils() {
+    }
+
+    // 두 좌표 사이의 대원 거리(haversine, m)
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 해당 위도에서 경도 1도의 길이 (m)
+    public static double metersPerDegreeLongitude(double latitude) {
+        return METERS_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+    }
+}
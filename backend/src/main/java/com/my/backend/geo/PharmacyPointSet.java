@@ -0,0 +1,217 @@
+package com.my.backend.geo;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 커버리지 분석용 약국 좌표 스냅샷. 좌표를 격자 버킷 순서로 정렬한 기본형 배열(라디안, cos(위도) 미리 계산)로만 가지고 있어서
+ * 셀 하나를 계산할 때 객체를 만들거나 포인터를 따라가지 않고 배열을 순서대로 읽습니다.
+ * 버킷은 CSR 형태(bucketStart[b] ~ bucketStart[b + 1])라 빈 버킷도 int 하나만 차지합니다.
+ * 한 번 만들면 바뀌지 않으므로 여러 스레드가 동시에 measure를 호출해도 됩니다.
+ */
+public final class PharmacyPointSet {
+
+    // maxNearestMeters 안에 약국이 없는 셀의 최근접 거리
+    public static final int NO_PHARMACY = -1;
+
+    // 버킷 수 상한 (넘으면 버킷 크기를 두 배씩 키움)
+    private static final long MAX_BUCKETS = 4_000_000;
+    // 이 셀 수 이하면 fork 하지 않고 직접 계산
+    private static final int SEQUENTIAL_CELLS = 2048;
+
+    private final double bucketDegrees;
+    private final int minLatBucket;
+    private final int minLonBucket;
+    private final int latBuckets;
+    private final int lonBuckets;
+    private final int[] bucketStart;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] cosLatitudes;
+
+    private PharmacyPointSet(double bucketDegrees, int minLatBucket, int minLonBucket, int latBuckets, int lonBuckets,
+                             int[] bucketStart, double[] latitudes, double[] longitudes, double[] cosLatitudes) {
+        this.bucketDegrees = bucketDegrees;
+        this.minLatBucket = minLatBucket;
+        this.minLonBucket = minLonBucket;
+        this.latBuckets = latBuckets;
+        this.lonBuckets = lonBuckets;
+        this.bucketStart = bucketStart;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.cosLatitudes = cosLatitudes;
+    }
+
+    /**
+     * 좌표(도) 앞 size개로 만듭니다. bucketDegrees는 주로 세는 반경과 비슷하게 주면 셀마다 3x3 버킷 안팎만 봅니다.
+     */
+    public static PharmacyPointSet of(double[] latitudes, double[] longitudes, int size, double bucketDegrees) {
+        if (size == 0) {
+            return new PharmacyPointSet(bucketDegrees, 0, 0, 0, 0, new int[1], new double[0], new double[0], new double[0]);
+        }
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            minLat = Math.min(minLat, latitudes[i]);
+            maxLat = Math.max(maxLat, latitudes[i]);
+            minLon = Math.min(minLon, longitudes[i]);
+            maxLon = Math.max(maxLon, longitudes[i]);
+        }
+        while ((Math.floor(maxLat / bucketDegrees) - Math.floor(minLat / bucketDegrees) + 1)
+                * (Math.floor(maxLon / bucketDegrees) - Math.floor(minLon / bucketDegrees) + 1) > MAX_BUCKETS) {
+            bucketDegrees *= 2;
+        }
+        int minLatBucket = (int) Math.floor(minLat / bucketDegrees);
+        int minLonBucket = (int) Math.floor(minLon / bucketDegrees);
+        int latBuckets = (int) Math.floor(maxLat / bucketDegrees) - minLatBucket + 1;
+        int lonBuckets = (int) Math.floor(maxLon / bucketDegrees) - minLonBucket + 1;
+
+        // 버킷별 개수 → 시작 위치 → 채우기 (counting sort)
+        int[] bucketOf = new int[size];
+        int[] bucketStart = new int[latBuckets * lonBuckets + 1];
+        for (int i = 0; i < size; i++) {
+            int latBucket = (int) Math.floor(latitudes[i] / bucketDegrees) - minLatBucket;
+            int lonBucket = (int) Math.floor(longitudes[i] / bucketDegrees) - minLonBucket;
+            bucketOf[i] = latBucket * lonBuckets + lonBucket;
+            bucketStart[bucketOf[i] + 1]++;
+        }
+        for (int b = 0; b < latBuckets * lonBuckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+        int[] next = bucketStart.clone();
+        double[] sortedLatitudes = new double[size];
+        double[] sortedLongitudes = new double[size];
+        double[] cosLatitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            int position = next[bucketOf[i]]++;
+            sortedLatitudes[position] = Math.toRadians(latitudes[i]);
+            sortedLongitudes[position] = Math.toRadians(longitudes[i]);
+            cosLatitudes[position] = Math.cos(sortedLatitudes[position]);
+        }
+        return new PharmacyPointSet(bucketDegrees, minLatBucket, minLonBucket, latBuckets, lonBuckets,
+                bucketStart, sortedLatitudes, sortedLongitudes, cosLatitudes);
+    }
+
+    public int size() {
+        return latitudes.length;
+    }
+
+    /**
+     * grid의 [fromRow, toRow) 행을 pool에서 fork/join으로 나눠 계산합니다.
+     * 결과는 (row - fromRow) * cols + col 위치에 씀: nearest는 최근접 약국 거리(m, 반올림, 없으면 NO_PHARMACY), counts는 반경 안 약국 수.
+     */
+    public void measureRows(CoverageGrid grid, int fromRow, int toRow, double radiusMeters, double maxNearestMeters,
+                            int[] nearest, int[] counts, ForkJoinPool pool) {
+        pool.invoke(new RowTask(grid, fromRow, fromRow, toRow, radiusMeters, maxNearestMeters, nearest, counts));
+    }
+
+    /**
+     * 한 지점의 최근접 약국 거리와 반경 안 약국 수를 nearest[index], counts[index]에 씀.
+     * 중심 버킷부터 링 단위로 넓혀가며, 반경 안은 모두 세고 최근접 거리가 확정되면(또는 maxNearestMeters를 넘으면) 멈춥니다.
+     * 거리 비교는 haversine의 중간값 a = sin²(Δφ/2) + cosφ₁·cosφ₂·sin²(Δλ/2)로 하고, asin은 최근접 후보가 바뀔 때만 계산합니다.
+     */
+    public void measure(double latitude, double longitude, double radiusMeters, double maxNearestMeters,
+                        int[] nearest, int[] counts, int index) {
+        double latRad = Math.toRadians(latitude);
+        double lonRad = Math.toRadians(longitude);
+        double cosLat = Math.cos(latRad);
+        double radiusA = haversineA(radiusMeters);
+
+        int centerLat = (int) Math.floor(latitude / bucketDegrees) - minLatBucket;
+        int centerLon = (int) Math.floor(longitude / bucketDegrees) - minLonBucket;
+        int maxRing = Math.max(Math.max(centerLat, latBuckets - 1 - centerLat), Math.max(centerLon, lonBuckets - 1 - centerLon));
+
+        int count = 0;
+        double bestA = Double.POSITIVE_INFINITY;
+        double bestMeters = Double.POSITIVE_INFINITY;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            int fromLat = Math.max(centerLat - ring, 0);
+            int toLat = Math.min(centerLat + ring, latBuckets - 1);
+            for (int latBucket = fromLat; latBucket <= toLat; latBucket++) {
+                // 링의 위/아래 줄은 전부, 가운데 줄은 양 끝 버킷만
+                boolean edgeRow = latBucket == centerLat - ring || latBucket == centerLat + ring;
+                int fromLon = edgeRow ? Math.max(centerLon - ring, 0) : centerLon - ring;
+                int toLon = edgeRow ? Math.min(centerLon + ring, lonBuckets - 1) : centerLon + ring;
+                int step = edgeRow ? 1 : 2 * ring;
+                for (int lonBucket = fromLon; lonBucket <= toLon; lonBucket += step) {
+                    if (lonBucket < 0 || lonBucket >= lonBuckets) {
+                        continue;
+                    }
+                    int bucket = latBucket * lonBuckets + lonBucket;
+                    for (int i = bucketStart[bucket], end = bucketStart[bucket + 1]; i < end; i++) {
+                        double sinLat = Math.sin((latitudes[i] - latRad) * 0.5);
+                        double sinLon = Math.sin((longitudes[i] - lonRad) * 0.5);
+                        double a = sinLat * sinLat + cosLat * cosLatitudes[i] * sinLon * sinLon;
+                        if (a <= radiusA) {
+                            count++;
+                        }
+                        if (a < bestA) {
+                            bestA = a;
+                            bestMeters = 2 * GeoUtils.EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+                        }
+                    }
+                }
+            }
+            // 아직 보지 않은 버킷의 약국은 최소 ring 칸 이상 떨어져 있음
+            double widestLatitude = Math.min(89.0, Math.abs(latitude) + (ring + 1) * bucketDegrees);
+            double unexploredBound = ring * bucketDegrees
+                    * Math.min(GeoUtils.METERS_PER_DEGREE_LATITUDE, GeoUtils.metersPerDegreeLongitude(widestLatitude));
+            if (unexploredBound >= radiusMeters && (bestMeters <= unexploredBound || unexploredBound >= maxNearestMeters)) {
+                break;
+            }
+        }
+        nearest[index] = bestMeters <= maxNearestMeters ? (int) Math.round(bestMeters) : NO_PHARMACY;
+        counts[index] = count;
+    }
+
+    // 거리(m) → haversine 중간값 a
+    private static double haversineA(double meters) {
+        double half = Math.min(meters / GeoUtils.EARTH_RADIUS_METERS, Math.PI) * 0.5;
+        double sin = Math.sin(half);
+        return sin * sin;
+    }
+
+    // 행 범위를 반씩 나눠 fork (셀 수가 SEQUENTIAL_CELLS 이하이거나 한 행이면 직접 계산)
+    private final class RowTask extends RecursiveAction {
+
+        private final CoverageGrid grid;
+        private final int baseRow;
+        private final int fromRow;
+        private final int toRow;
+        private final double radiusMeters;
+        private final double maxNearestMeters;
+        private final int[] nearest;
+        private final int[] counts;
+
+        private RowTask(CoverageGrid grid, int baseRow, int fromRow, int toRow, double radiusMeters, double maxNearestMeters,
+                        int[] nearest, int[] counts) {
+            this.grid = grid;
+            this.baseRow = baseRow;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.radiusMeters = radiusMeters;
+            this.maxNearestMeters = maxNearestMeters;
+            this.nearest = nearest;
+            this.counts = counts;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow > 1 && (long) (toRow - fromRow) * grid.cols() > SEQUENTIAL_CELLS) {
+                int middle = (fromRow + toRow) >>> 1;
+                invokeAll(new RowTask(grid, baseRow, fromRow, middle, radiusMeters, maxNearestMeters, nearest, counts),
+                        new RowTask(grid, baseRow, middle, toRow, radiusMeters, maxNearestMeters, nearest, counts));
+                return;
+            }
+            for (int row = fromRow; row < toRow; row++) {
+                double latitude = grid.latitude(row);
+                int offset = (row - baseRow) * grid.cols();
+                for (int col = 0; col < grid.cols(); col++) {
+                    measure(latitude, grid.longitude(col), radiusMeters, maxNearestMeters, nearest, counts, offset + col);
+                }
+            }
+        }
+    }
+}
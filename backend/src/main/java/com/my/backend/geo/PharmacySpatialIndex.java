@@ -0,0 +1,264 @@
+package com.my.backend.geo;
+
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.event.PharmacyChangedEvent;
+import com.my.backend.repository.PharmacyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * DB에 저장된 약국 좌표를 격자(grid cell) 단위로 메모리에 올려둔 공간 인덱스.
+ * 시작 시 PharmacyRepository에서 한 번 적재하고, 이후에는 PharmacyChangedEvent를 받아(커밋 후) 갱신합니다.
+ * 주변 약국 조회를 카카오 호출 없이 메모리에서 바로 처리하기 위해 사용합니다.
+ */
+@Component
+@Slf4j
+public class PharmacySpatialIndex {
+
+    private final PharmacyRepository pharmacyRepository;
+    private final double cellDegrees;
+    private final int maxRings;
+
+    // 현재 격자. rebuild는 새 격자를 따로 채운 뒤 통째로 바꿔 끼우므로 조회 중에 비거나 반쯤 찬 인덱스가 보이지 않음
+    private volatile Grid grid = new Grid();
+    // rebuild가 DB를 읽는 동안 들어온 변경 (null이면 rebuild 중 아님). 새 격자에 다시 적용해 유실을 막음
+    private List<Function<Grid, Boolean>> changesDuringRebuild;
+    private final Object rebuildLock = new Object();
+    // 내용이 바뀔 때마다 증가 (다시 만들어야 하는지 확인하는 쪽에서 사용, 같은 값 갱신은 제외)
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    public PharmacySpatialIndex(PharmacyRepository pharmacyRepository,
+                                @Value("${app.spatial-index.cell-degrees:0.01}") double cellDegrees,
+                                @Value("${app.spatial-index.max-rings:50}") int maxRings) {
+        this.pharmacyRepository = pharmacyRepository;
+        this.cellDegrees = cellDegrees;
+        this.maxRings = maxRings;
+    }
+
+    // 다른 준비 완료 리스너(캐시 예열, 자동완성 인덱스)보다 먼저 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                Grid rebuilt = new Grid();
+                for (Pharmacy pharmacy : pharmacyRepository.findAll()) {
+                    IndexedPharmacy indexed = toIndexed(pharmacy);
+                    if (indexed != null) {
+                        rebuilt.put(indexed);
+                    }
+                }
+                synchronized (this) {
+                    changesDuringRebuild.forEach(change -> change.apply(rebuilt));
+                    grid = rebuilt;
+                    modificationCount.incrementAndGet();
+                }
+                log.info("약국 공간 인덱스 적재 완료: {}건", rebuilt.cellById.size());
+            } finally {
+                synchronized (this) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPharmacyChanged(PharmacyChangedEvent event) {
+        if (event.bulk()) {
+            rebuild();
+            return;
+        }
+        event.upserted().forEach(this::put);
+        event.deletedIds().forEach(this::remove);
+    }
+
+    // 약국 추가/갱신 (좌표가 바뀌었으면 셀 이동)
+    public void put(Pharmacy pharmacy) {
+        IndexedPharmacy indexed = toIndexed(pharmacy);
+        if (indexed == null) {
+            return;
+        }
+        apply(current -> current.put(indexed));
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        apply(current -> current.remove(id));
+    }
+
+    // 현재 격자에 변경을 적용하고, rebuild 중이면 새 격자에도 적용되도록 기록
+    private synchronized void apply(Function<Grid, Boolean> change) {
+        if (change.apply(grid)) {
+            modificationCount.incrementAndGet();
+        }
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    private IndexedPharmacy toIndexed(Pharmacy pharmacy) {
+        if (pharmacy == null || pharmacy.getId() == null
+                || pharmacy.getLatitude() == null || pharmacy.getLongitude() == null) {
+            return null;
+        }
+        return new IndexedPharmacy(pharmacy.getId(), pharmacy.getName(), pharmacy.getAddress(),
+                pharmacy.getLatitude(), pharmacy.getLongitude());
+    }
+
+    public int size() {
+        return grid.cellById.size();
+    }
+
+    public long modificationCount() {
+        return modificationCount.get();
+    }
+
+    // 인덱스의 모든 약국 (순서 없음, 도는 동안의 변경은 반영될 수도 있고 아닐 수도 있음)
+    public void forEach(Consumer<IndexedPharmacy> consumer) {
+        grid.cells.values().forEach(cell -> cell.values().forEach(consumer));
+    }
+
+    // 반경(m) 이내 약국을 가까운 순으로 최대 limit개 반환
+    public List<Hit> findWithinRadius(double latitude, double longitude, double radiusMeters, int limit) {
+        int latRings = (int) Math.ceil(radiusMeters / (cellDegrees * GeoUtils.METERS_PER_DEGREE_LATITUDE));
+        double widestLatitude = Math.min(89.0, Math.abs(latitude) + radiusMeters / GeoUtils.METERS_PER_DEGREE_LATITUDE);
+        int lonRings = (int) Math.ceil(radiusMeters / (cellDegrees * GeoUtils.metersPerDegreeLongitude(widestLatitude)));
+
+        Grid current = grid;
+        int centerLat = cellOf(latitude);
+        int centerLon = cellOf(longitude);
+        List<Hit> hits = new ArrayList<>();
+        for (int dLat = -latRings; dLat <= latRings; dLat++) {
+            for (int dLon = -lonRings; dLon <= lonRings; dLon++) {
+                collect(current, centerLat + dLat, centerLon + dLon, latitude, longitude, radiusMeters, hits);
+            }
+        }
+        return sortAndLimit(hits, limit);
+    }
+
+    // 가장 가까운 약국 k개 (maxRadiusMeters 밖은 제외). 중심 셀부터 링 단위로 넓혀가며 탐색합니다.
+    public List<Hit> findNearest(double latitude, double longitude, int k, double maxRadiusMeters) {
+        Grid current = grid;
+        if (k <= 0 || current.cellById.isEmpty()) {
+            return List.of();
+        }
+        int centerLat = cellOf(latitude);
+        int centerLon = cellOf(longitude);
+        List<Hit> hits = new ArrayList<>();
+
+        for (int ring = 0; ring <= maxRings; ring++) {
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                for (int dLon = -ring; dLon <= ring; dLon++) {
+                    if (Math.abs(dLat) == ring || Math.abs(dLon) == ring) {
+                        collect(current, centerLat + dLat, centerLon + dLon, latitude, longitude, maxRadiusMeters, hits);
+                    }
+                }
+            }
+            // 아직 탐색하지 않은 셀의 약국은 최소 ring 칸 이상 떨어져 있음
+            double widestLatitude = Math.min(89.0, Math.abs(latitude) + (ring + 1) * cellDegrees);
+            double unexploredBound = ring * cellDegrees
+                    * Math.min(GeoUtils.METERS_PER_DEGREE_LATITUDE, GeoUtils.metersPerDegreeLongitude(widestLatitude));
+            if (unexploredBound >= maxRadiusMeters) {
+                break;
+            }
+            if (hits.size() >= k) {
+                hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+                if (hits.get(k - 1).distanceMeters() <= unexploredBound) {
+                    break;
+                }
+            }
+        }
+        return sortAndLimit(hits, k);
+    }
+
+    private void collect(Grid current, int latCell, int lonCell, double latitude, double longitude,
+                         double radiusMeters, List<Hit> hits) {
+        Map<Long, IndexedPharmacy> cell = current.cells.get(cellKey(latCell, lonCell));
+        if (cell == null) {
+            return;
+        }
+        for (IndexedPharmacy pharmacy : cell.values()) {
+            double distance = GeoUtils.haversineMeters(latitude, longitude, pharmacy.latitude(), pharmacy.longitude());
+            if (distance <= radiusMeters) {
+                hits.add(new Hit(pharmacy, distance));
+            }
+        }
+    }
+
+    private static List<Hit> sortAndLimit(List<Hit> hits, int limit) {
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private int cellOf(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xFFFFFFFFL);
+    }
+
+    // 격자 한 벌. 변경은 PharmacySpatialIndex의 모니터 안에서만, 조회는 잠금 없이
+    private final class Grid {
+        // 셀 키 → (약국 ID → 약국)
+        private final Map<Long, Map<Long, IndexedPharmacy>> cells = new ConcurrentHashMap<>();
+        // 약국 ID → 셀 키 (이동/삭제 시 기존 셀을 찾기 위함)
+        private final Map<Long, Long> cellById = new ConcurrentHashMap<>();
+
+        // 내용이 바뀌었으면 true
+        boolean put(IndexedPharmacy indexed) {
+            long cellKey = cellKey(cellOf(indexed.latitude()), cellOf(indexed.longitude()));
+            Long previousCell = cellById.put(indexed.id(), cellKey);
+            if (previousCell != null && previousCell != cellKey) {
+                removeFromCell(previousCell, indexed.id());
+            }
+            IndexedPharmacy previous = cells.computeIfAbsent(cellKey, k -> new ConcurrentHashMap<>()).put(indexed.id(), indexed);
+            return !indexed.equals(previous);
+        }
+
+        boolean remove(Long id) {
+            Long cellKey = cellById.remove(id);
+            if (cellKey == null) {
+                return false;
+            }
+            removeFromCell(cellKey, id);
+            return true;
+        }
+
+        private void removeFromCell(long cellKey, Long id) {
+            Map<Long, IndexedPharmacy> cell = cells.get(cellKey);
+            if (cell != null) {
+                cell.remove(id);
+                if (cell.isEmpty()) {
+                    cells.remove(cellKey);
+                }
+            }
+        }
+    }
+
+    public record IndexedPharmacy(Long id, String name, String address, double latitude, double longitude) {
+    }
+
+    public record Hit(IndexedPharmacy pharmacy, double distanceMeters) {
+    }
+}
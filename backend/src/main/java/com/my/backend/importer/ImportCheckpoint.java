@@ -0,0 +1,109 @@
+package com.my.backend.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.BitSet;
+import java.util.Properties;
+
+/**
+ * 대량 적재 진행 상태(완료된 청크 번호)를 CSV 옆의 "*.checkpoint" 파일에 기록합니다.
+ * 청크가 끝날 때마다 임시 파일에 쓰고 원자적으로 교체하므로, 적재 도중 프로세스가 죽어도
+ * 다음 실행에서 완료된 청크는 건너뛰고 나머지부터 이어서 적재합니다.
+ * (쓰다 만 청크는 다시 적재하지만 upsert라서 중복 행이 생기지 않음)
+ */
+public final class ImportCheckpoint {
+
+    private final Path path;
+    private final long fileSize;
+    private final long lastModifiedMillis;
+    private final long chunkBytes;
+    private final BitSet completed;
+
+    private ImportCheckpoint(Path path, long fileSize, long lastModifiedMillis, long chunkBytes, BitSet completed) {
+        this.path = path;
+        this.fileSize = fileSize;
+        this.lastModifiedMillis = lastModifiedMillis;
+        this.chunkBytes = chunkBytes;
+        this.completed = completed;
+    }
+
+    public static Path pathFor(Path csv) {
+        return csv.resolveSibling(csv.getFileName() + ".checkpoint");
+    }
+
+    /**
+     * 같은 파일(크기, 수정 시각)에 대한 체크포인트가 있으면 이어서, 없거나 다른 파일 것이면 새로 시작합니다.
+     * 이어서 적재할 때는 청크 경계가 같도록 기록된 청크 크기를 그대로 사용합니다.
+     */
+    public static ImportCheckpoint loadOrCreate(Path csv, long defaultChunkBytes) throws IOException {
+        Path path = pathFor(csv);
+        long fileSize = Files.size(csv);
+        long lastModifiedMillis = Files.getLastModifiedTime(csv).toMillis();
+
+        if (Files.exists(path)) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(path)) {
+                properties.load(in);
+            }
+            if (Long.toString(fileSize).equals(properties.getProperty("file-size"))
+                    && Long.toString(lastModifiedMillis).equals(properties.getProperty("last-modified"))) {
+                BitSet completed = new BitSet();
+                String indices = properties.getProperty("completed-chunks", "");
+                for (String index : indices.split(",")) {
+                    if (!index.isBlank()) {
+                        completed.set(Integer.parseInt(index.trim()));
+                    }
+                }
+                long chunkBytes = Long.parseLong(properties.getProperty("chunk-bytes", Long.toString(defaultChunkBytes)));
+                return new ImportCheckpoint(path, fileSize, lastModifiedMillis, chunkBytes, completed);
+            }
+        }
+        return new ImportCheckpoint(path, fileSize, lastModifiedMillis, defaultChunkBytes, new BitSet());
+    }
+
+    public long getChunkBytes() {
+        return chunkBytes;
+    }
+
+    public synchronized boolean isCompleted(int chunkIndex) {
+        return completed.get(chunkIndex);
+    }
+
+    public synchronized int completedCount() {
+        return completed.cardinality();
+    }
+
+    public synchronized void markCompleted(int chunkIndex) {
+        completed.set(chunkIndex);
+        write();
+    }
+
+    public void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private void write() {
+        Properties properties = new Properties();
+        properties.setProperty("file-size", Long.toString(fileSize));
+        properties.setProperty("last-modified", Long.toString(lastModifiedMillis));
+        properties.setProperty("chunk-bytes", Long.toString(chunkBytes));
+        StringBuilder indices = new StringBuilder();
+        completed.stream().forEach(index -> indices.append(indices.length() == 0 ? "" : ",").append(index));
+        properties.setProperty("completed-chunks", indices.toString());
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "pharmacy import checkpoint");
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트 기록 실패: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.my.backend.importer;
+
+import com.my.backend.entity.Pharmacy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 약국 CSV(UTF-8, 첫 줄 헤더) 읽기.
+ * 파일을 줄 경계에 맞춘 청크로 나누고, 각 청크를 메모리 매핑해서 서로 다른 스레드가 동시에 파싱할 수 있습니다.
+ * 청크 경계는 (파일 크기, 청크 크기)가 같으면 항상 같으므로 체크포인트에 청크 번호만 기록하면 됩니다.
+ * 따옴표로 감싼 필드 안의 쉼표와 "" 이스케이프는 지원하지만, 필드 안의 줄바꿈은 지원하지 않습니다.
+ */
+public final class PharmacyCsvFile implements Closeable {
+
+    // 헤더 이름 → 컬럼 (영문 및 건강보험심사평가원 약국 정보 데이터셋의 컬럼명)
+    private static final Map<String, Column> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("name", Column.NAME),
+            Map.entry("약국명", Column.NAME),
+            Map.entry("요양기관명", Column.NAME),
+            Map.entry("address", Column.ADDRESS),
+            Map.entry("주소", Column.ADDRESS),
+            Map.entry("lat", Column.LATITUDE),
+            Map.entry("latitude", Column.LATITUDE),
+            Map.entry("위도", Column.LATITUDE),
+            Map.entry("좌표(y)", Column.LATITUDE),
+            Map.entry("lon", Column.LONGITUDE),
+            Map.entry("lng", Column.LONGITUDE),
+            Map.entry("longitude", Column.LONGITUDE),
+            Map.entry("경도", Column.LONGITUDE),
+            Map.entry("좌표(x)", Column.LONGITUDE));
+
+    // Pharmacy 엔티티 컬럼 길이
+    private static final int MAX_NAME_LENGTH = 200;
+    private static final int MAX_ADDRESS_LENGTH = 500;
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+
+    private enum Column {NAME, ADDRESS, LATITUDE, LONGITUDE}
+
+    public record Chunk(int index, long start, long end) {
+    }
+
+    public record ChunkStats(long rowsRead, long rowsRejected) {
+    }
+
+    private final FileChannel channel;
+    private final long size;
+    private final long dataStart;
+    // Column.ordinal() → CSV 필드 위치
+    private final int[] columnPositions = new int[Column.values().length];
+    private final int fieldCount;
+
+    public PharmacyCsvFile(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            this.dataStart = readHeader();
+            this.fieldCount = maxPosition() + 1;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    private long readHeader() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, MAX_HEADER_BYTES));
+        channel.read(buffer, 0);
+        byte[] bytes = buffer.array();
+        int length = buffer.position();
+        int lineEnd = indexOf(bytes, length, (byte) '\n');
+        if (lineEnd < 0 && length == MAX_HEADER_BYTES) {
+            throw new IllegalArgumentException("CSV 헤더 줄이 너무 깁니다.");
+        }
+        int headerLength = lineEnd < 0 ? length : lineEnd;
+        // UTF-8 BOM 제거
+        int offset = headerLength >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF ? 3 : 0;
+
+        Arrays.fill(columnPositions, -1);
+        String[] headers = new String(bytes, offset, trimCarriageReturn(bytes, offset, headerLength) - offset,
+                StandardCharsets.UTF_8).split(",", -1);
+        for (int i = 0; i < headers.length; i++) {
+            String header = headers[i].trim().replace("\"", "").toLowerCase(Locale.ROOT);
+            Column column = HEADER_ALIASES.get(header);
+            if (column != null && columnPositions[column.ordinal()] < 0) {
+                columnPositions[column.ordinal()] = i;
+            }
+        }
+        for (Column column : Column.values()) {
+            if (columnPositions[column.ordinal()] < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 " + column.name().toLowerCase(Locale.ROOT) + " 컬럼이 없습니다.");
+            }
+        }
+        return lineEnd < 0 ? length : lineEnd + 1;
+    }
+
+    private int maxPosition() {
+        int max = 0;
+        for (int position : columnPositions) {
+            max = Math.max(max, position);
+        }
+        return max;
+    }
+
+    // 헤더 다음부터 약 chunkBytes 크기로, 줄 경계에 맞춰 나눔
+    public List<Chunk> planChunks(long chunkBytes) throws IOException {
+        if (chunkBytes <= 0 || chunkBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("청크 크기는 1 ~ " + Integer.MAX_VALUE + " 바이트여야 합니다.");
+        }
+        List<Chunk> chunks = new ArrayList<>();
+        long start = dataStart;
+        while (start < size) {
+            long end = start + chunkBytes >= size ? size : nextLineStart(start + chunkBytes);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("CSV 한 줄이 너무 깁니다. (offset " + start + ")");
+            }
+            chunks.add(new Chunk(chunks.size(), start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    // position - 1 이후 첫 줄바꿈의 다음 위치 (없으면 파일 끝)
+    private long nextLineStart(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long offset = position - 1;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            int newline = indexOf(buffer.array(), read, (byte) '\n');
+            if (newline >= 0) {
+                return offset + newline + 1;
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * 청크 하나를 메모리 매핑해서 한 줄씩 Pharmacy로 변환해 consumer에 넘깁니다.
+     * 필요한 4개 컬럼만 문자열로 디코딩하고, 형식이 잘못된 줄은 건너뛰고 rowsRejected로 셉니다.
+     * (여러 스레드에서 서로 다른 청크로 동시에 호출 가능)
+     */
+    public ChunkStats parse(Chunk chunk, Consumer<Pharmacy> consumer) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.end() - chunk.start());
+        int limit = mapped.limit();
+        byte[] line = new byte[256];
+        int[] fieldStarts = new int[fieldCount];
+        int[] fieldEnds = new int[fieldCount];
+        boolean[] fieldEscaped = new boolean[fieldCount];
+
+        long rowsRead = 0;
+        long rowsRejected = 0;
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && mapped.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int length = lineEnd - lineStart;
+            if (line.length < length) {
+                line = new byte[Math.max(length, line.length * 2)];
+            }
+            mapped.get(lineStart, line, 0, length);
+            length = trimCarriageReturn(line, 0, length);
+            lineStart = lineEnd + 1;
+
+            if (length == 0) {
+                continue;
+            }
+            rowsRead++;
+            Pharmacy pharmacy = toPharmacy(line, length, fieldStarts, fieldEnds, fieldEscaped);
+            if (pharmacy == null) {
+                rowsRejected++;
+            } else {
+                consumer.accept(pharmacy);
+            }
+        }
+        return new ChunkStats(rowsRead, rowsRejected);
+    }
+
+    private Pharmacy toPharmacy(byte[] line, int length, int[] starts, int[] ends, boolean[] escaped) {
+        if (split(line, length, starts, ends, escaped) < fieldCount) {
+            return null;
+        }
+        String name = field(line, Column.NAME, starts, ends, escaped).trim();
+        String address = field(line, Column.ADDRESS, starts, ends, escaped).trim();
+        if (name.isEmpty() || address.isEmpty() || name.length() > MAX_NAME_LENGTH || address.length() > MAX_ADDRESS_LENGTH) {
+            return null;
+        }
+        double latitude;
+        double longitude;
+        try {
+            latitude = Double.parseDouble(field(line, Column.LATITUDE, starts, ends, escaped).trim());
+            longitude = Double.parseDouble(field(line, Column.LONGITUDE, starts, ends, escaped).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+            return null;
+        }
+        return Pharmacy.builder()
+                .name(name)
+                .address(address)
+                .distance(0.0)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    private String field(byte[] line, Column column, int[] starts, int[] ends, boolean[] escaped) {
+        int position = columnPositions[column.ordinal()];
+        String value = new String(line, starts[position], ends[position] - starts[position], StandardCharsets.UTF_8);
+        return escaped[position] ? value.replace("\"\"", "\"") : value;
+    }
+
+    // 필요한 필드 수(fieldCount)까지만 나누고 실제 나눈 필드 수를 반환 (따옴표 필드는 따옴표 안쪽 범위)
+    private int split(byte[] line, int length, int[] starts, int[] ends, boolean[] escaped) {
+        int field = 0;
+        int i = 0;
+        while (field < fieldCount && i <= length) {
+            escaped[field] = false;
+            if (i < length && line[i] == '"') {
+                int start = ++i;
+                while (i < length) {
+                    if (line[i] == '"') {
+                        if (i + 1 < length && line[i + 1] == '"') {
+                            escaped[field] = true;
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                starts[field] = start;
+                ends[field] = Math.min(i, length);
+                // 닫는 따옴표 뒤 다음 쉼표까지 건너뜀
+                while (i < length && line[i] != ',') {
+                    i++;
+                }
+            } else {
+                int start = i;
+                while (i < length && line[i] != ',') {
+                    i++;
+                }
+                starts[field] = start;
+                ends[field] = i;
+            }
+            field++;
+            i++;
+        }
+        return field;
+    }
+
+    private static int trimCarriageReturn(byte[] bytes, int offset, int end) {
+        return end > offset && bytes[end - 1] == '\r' ? end - 1 : end;
+    }
+
+    private static int indexOf(byte[] bytes, int length, byte target) {
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
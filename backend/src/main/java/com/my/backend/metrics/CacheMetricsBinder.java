@@ -0,0 +1,125 @@
+package com.my.backend.metrics;
+
+import com.my.backend.cache.CategorySearchCache;
+import com.my.backend.cache.GeocodeCache;
+import com.my.backend.cache.LocalCache;
+import com.my.backend.cache.TwoTierCache;
+import com.my.backend.geo.PharmacySpatialIndex;
+import com.my.backend.searchlog.SearchEventLog;
+import com.my.backend.service.PharmacyWriteBehindQueue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/공유 캐시, 공간 인덱스, write-behind 큐, 검색 로그의 내부 카운터를 지표로 노출합니다.
+ * 값은 스크레이프 시점에 읽기만 하므로 검색 경로에는 비용이 추가되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final GeocodeCache geocodeCache;
+    private final CategorySearchCache categorySearchCache;
+    private final PharmacySpatialIndex pharmacySpatialIndex;
+    private final PharmacyWriteBehindQueue pharmacyWriteBehindQueue;
+    private final SearchEventLog searchEventLog;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindLocalCache(registry, "geocode", geocodeCache.getCache());
+        bindLocalCache(registry, "category", categorySearchCache.getCache());
+        bindSharedCache(registry, "geocode", geocodeCache.getSharedCache());
+        bindSharedCache(registry, "category", categorySearchCache.getSharedCache());
+
+        // 카테고리 캐시는 키가 있어도 반경/개수 조건으로 답하지 못할 수 있으므로 실제 응답 기준 적중률을 따로 기록
+        FunctionCounter.builder("pharmacy.cache.category.answers", categorySearchCache, CategorySearchCache::getHitCount)
+                .description("카테고리 캐시로 응답한 검색 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.cache.category.answers", categorySearchCache, CategorySearchCache::getMissCount)
+                .description("카테고리 캐시로 응답한 검색 수")
+                .tag("result", "miss")
+                .register(registry);
+
+        Gauge.builder("pharmacy.spatial_index.size", pharmacySpatialIndex, PharmacySpatialIndex::size)
+                .description("메모리 공간 인덱스에 올라간 약국 수")
+                .register(registry);
+
+        Gauge.builder("pharmacy.write_behind.queue.depth", pharmacyWriteBehindQueue, PharmacyWriteBehindQueue::getQueueDepth)
+                .register(registry);
+        Gauge.builder("pharmacy.write_behind.oldest_pending_age", pharmacyWriteBehindQueue,
+                        PharmacyWriteBehindQueue::getOldestPendingAgeMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("pharmacy.write_behind.last_batch_lag", pharmacyWriteBehindQueue,
+                        PharmacyWriteBehindQueue::getLastBatchLagMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.write_behind.rows", pharmacyWriteBehindQueue, PharmacyWriteBehindQueue::getEnqueuedCount)
+                .tag("result", "enqueued")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.write_behind.rows", pharmacyWriteBehindQueue, PharmacyWriteBehindQueue::getWrittenCount)
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.write_behind.rows", pharmacyWriteBehindQueue, PharmacyWriteBehindQueue::getCallerRunsCount)
+                .tag("result", "caller_runs")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.write_behind.rows", pharmacyWriteBehindQueue, PharmacyWriteBehindQueue::getFailedCount)
+                .tag("result", "failed")
+                .register(registry);
+
+        bindSearchEventLog(registry);
+    }
+
+    // 검색 로그: written(파일에 기록), dropped(링 버퍼가 가득 차 버림), failed(파일 쓰기 실패)
+    private void bindSearchEventLog(MeterRegistry registry) {
+        FunctionCounter.builder("pharmacy.search_log.events", searchEventLog, SearchEventLog::getWrittenCount)
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.search_log.events", searchEventLog, SearchEventLog::getDroppedCount)
+                .tag("result", "dropped")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.search_log.events", searchEventLog, SearchEventLog::getFailedCount)
+                .tag("result", "failed")
+                .register(registry);
+        Gauge.builder("pharmacy.search_log.pending", searchEventLog, SearchEventLog::getPendingCount)
+                .register(registry);
+    }
+
+    // L1에 없어서 공유 캐시(L2)까지 조회한 결과 (공유 캐시를 쓰지 않으면 0, error는 저장/무효화 실패 포함)
+    private static void bindSharedCache(MeterRegistry registry, String name, TwoTierCache<?, ?> cache) {
+        FunctionCounter.builder("pharmacy.cache.shared.gets", cache, TwoTierCache::getSharedHitCount)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.cache.shared.gets", cache, TwoTierCache::getSharedMissCount)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.cache.shared.gets", cache, TwoTierCache::getSharedErrorCount)
+                .tag("cache", name)
+                .tag("result", "error")
+                .register(registry);
+    }
+
+    private static void bindLocalCache(MeterRegistry registry, String name, LocalCache<?, ?> cache) {
+        FunctionCounter.builder("pharmacy.cache.gets", cache, LocalCache::getHitCount)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.cache.gets", cache, LocalCache::getMissCount)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("pharmacy.cache.evictions", cache, LocalCache::getEvictionCount)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("pharmacy.cache.size", cache, LocalCache::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
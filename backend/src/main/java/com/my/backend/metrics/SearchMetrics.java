@@ -0,0 +1,102 @@
+package com.my.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 약국 검색 파이프라인 지표.
+ * 단계별 타이머(pharmacy.search.stage)는 백분위 히스토그램을 내보내므로
+ * 프로메테우스에서 histogram_quantile로 단계별 p99를 구할 수 있습니다.
+ */
+@Component
+public class SearchMetrics {
+
+    public enum Stage {
+        GEOCODE("geocode"),
+        LOCAL_LOOKUP("local_lookup"),
+        CATEGORY("category"),
+        DB_UPSERT("db_upsert"),
+        MAPPING("mapping");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public enum EmptyReason {
+        // 주소 검색 결과 없음 (또는 카카오 오류)
+        GEOCODE_MISS("geocode_miss"),
+        // 좌표는 찾았지만 반경 안에 약국 없음
+        NO_PHARMACIES("no_pharmacies");
+
+        private final String tag;
+
+        EmptyReason(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<EmptyReason, Counter> emptyResultCounters = new EnumMap<>(EmptyReason.class);
+    private final Map<String, Timer> searchTimers = new ConcurrentHashMap<>();
+    private final Timer firstResultTimer;
+
+    public SearchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.firstResultTimer = Timer.builder("pharmacy.search.first_result")
+                .description("스트리밍 검색 시작부터 첫 결과 전송까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("pharmacy.search.stage")
+                    .description("약국 검색 단계별 소요 시간")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (EmptyReason reason : EmptyReason.values()) {
+            emptyResultCounters.put(reason, Counter.builder("pharmacy.search.empty")
+                    .description("결과 없이 끝난 검색 수")
+                    .tag("reason", reason.tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T record(Stage stage, Supplier<T> task) {
+        return stageTimers.get(stage).record(task);
+    }
+
+    public void emptyResult(EmptyReason reason) {
+        emptyResultCounters.get(reason).increment();
+    }
+
+    public Timer.Sample startSearch() {
+        return Timer.start(meterRegistry);
+    }
+
+    // 스트리밍 검색에서 첫 결과를 보낸 시점까지 (같은 sample로 stopSearch도 호출)
+    public void firstResult(Timer.Sample sample) {
+        sample.stop(firstResultTimer);
+    }
+
+    // source: local(메모리 인덱스에서 응답) / kakao(카테고리 검색까지 수행) / empty
+    //         degraded(과부하로 캐시/로컬 데이터만 응답) / rejected(과부하로 503) / cancelled(스트리밍 중 클라이언트 연결 종료)
+    //         error(그 밖의 예외로 실패)
+    public void stopSearch(Timer.Sample sample, String source) {
+        sample.stop(searchTimers.computeIfAbsent(source, key -> Timer.builder("pharmacy.search")
+                .description("약국 검색 전체 소요 시간")
+                .tag("source", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry)));
+    }
+}
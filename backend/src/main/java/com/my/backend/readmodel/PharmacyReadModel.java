@@ -0,0 +1,111 @@
+package com.my.backend.readmodel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.event.PharmacyChangedEvent;
+import com.my.backend.repository.PharmacyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 목록 조회용 읽기 모델. 시작 시 전체 약국을 한 번 읽어 PharmacySnapshot(직렬화된 JSON 바이트)을 만들고,
+ * 이후에는 PharmacyChangedEvent를 받아(커밋 후) 바뀐 행만 DB에서 다시 읽어 직렬화한 새 스냅샷으로 교체합니다.
+ * 읽는 쪽은 volatile 참조 하나만 읽으므로 잠금이 없고, 한 요청 안에서는 항상 같은 스냅샷을 봅니다.
+ * (적재 전이거나 app.read-model.enabled=false면 snapshot()은 null → 호출하는 쪽에서 DB 조회로 대체)
+ */
+@Component
+@Slf4j
+public class PharmacyReadModel {
+
+    private final PharmacyRepository pharmacyRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    private volatile PharmacySnapshot snapshot;
+    // 스냅샷 버전 (교체할 때마다 1씩 증가, this로 보호)
+    private long version;
+
+    public PharmacyReadModel(PharmacyRepository pharmacyRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${app.read-model.enabled:true}") boolean enabled) {
+        this.pharmacyRepository = pharmacyRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public PharmacySnapshot snapshot() {
+        return snapshot;
+    }
+
+    // 다른 준비 완료 리스너(캐시 예열, 자동완성 인덱스)보다 먼저 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<Pharmacy> pharmacies = new ArrayList<>(pharmacyRepository.findAll());
+        pharmacies.sort(Comparator.comparing(Pharmacy::getId));
+        long[] ids = new long[pharmacies.size()];
+        byte[][] rows = new byte[pharmacies.size()][];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = pharmacies.get(i).getId();
+            rows[i] = serialize(pharmacies.get(i));
+        }
+        snapshot = new PharmacySnapshot(++version, ids, rows);
+        log.info("약국 읽기 모델 적재 완료: {}건", ids.length);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPharmacyChanged(PharmacyChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.bulk() || snapshot == null) {
+            rebuild();
+            return;
+        }
+        // 이벤트에 담긴 행은 쓰지 않고 바뀐 ID를 DB에서 다시 읽음
+        // (커밋 후 리스너는 트랜잭션마다 다른 스레드에서 실행되므로, 늦게 도착한 이전 값이 새 값을 덮어쓰지 않도록)
+        Set<Long> changedIds = new HashSet<>(event.deletedIds());
+        for (Pharmacy pharmacy : event.upserted()) {
+            if (pharmacy.getId() != null) {
+                changedIds.add(pharmacy.getId());
+            }
+        }
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        SortedMap<Long, byte[]> upserted = new TreeMap<>();
+        for (Pharmacy pharmacy : pharmacyRepository.findAllById(changedIds)) {
+            upserted.put(pharmacy.getId(), serialize(pharmacy));
+        }
+        // DB에 없는 ID는 삭제된 것으로 처리
+        Set<Long> deletedIds = new HashSet<>(changedIds);
+        deletedIds.removeAll(upserted.keySet());
+        snapshot = snapshot.withChanges(++version, upserted, deletedIds);
+    }
+
+    private byte[] serialize(Pharmacy pharmacy) {
+        try {
+            return objectMapper.writeValueAsBytes(pharmacy);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("약국 직렬화 실패: " + pharmacy.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.my.backend.readmodel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * 약국 전체 목록의 불변 스냅샷. ID 오름차순 배열과, 같은 순서의 약국별 JSON 바이트(Pharmacy 직렬화 결과)만 가집니다.
+ * 목록 응답은 이 바이트를 이어 붙여 만들므로 요청마다 엔티티를 만들거나 직렬화하지 않습니다.
+ * 변경은 기존 스냅샷을 고치지 않고 새 스냅샷을 만들어(copy-on-write) PharmacyReadModel이 통째로 교체합니다.
+ */
+public final class PharmacySnapshot {
+
+    private static final byte[] ITEMS_PREFIX = "{\"items\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NEXT_CURSOR = ",\"nextCursor\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final long version;
+    private final long[] ids;
+    private final byte[][] rows;
+
+    // 전체 목록 JSON은 처음 요청될 때 한 번만 만듦 (같은 스냅샷을 읽는 동안 재사용)
+    private volatile byte[] allJson;
+
+    PharmacySnapshot(long version, long[] ids, byte[][] rows) {
+        this.version = version;
+        this.ids = ids;
+        this.rows = rows;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    // GET /api/pharmacies 응답 본문 (List<Pharmacy> 직렬화 결과와 같음)
+    public byte[] allJson() {
+        byte[] json = allJson;
+        if (json == null) {
+            json = arrayJson(0, ids.length);
+            allJson = json;
+        }
+        return json;
+    }
+
+    // GET /api/pharmacies/page 응답 본문 (PharmacyPageDto 직렬화 결과와 같음: cursor 이후 size개, 덜 차면 nextCursor는 null)
+    public byte[] pageJson(Long cursor, int size) {
+        int start = firstIndexAfter(cursor == null ? 0L : cursor);
+        int end = (int) Math.min((long) start + size, ids.length);
+        byte[] items = arrayJson(start, end);
+        byte[] nextCursor = end - start < size
+                ? NULL
+                : Long.toString(ids[end - 1]).getBytes(StandardCharsets.US_ASCII);
+
+        byte[] json = new byte[ITEMS_PREFIX.length + items.length + NEXT_CURSOR.length + nextCursor.length + 1];
+        int position = put(json, 0, ITEMS_PREFIX);
+        position = put(json, position, items);
+        position = put(json, position, NEXT_CURSOR);
+        position = put(json, position, nextCursor);
+        json[position] = '}';
+        return json;
+    }
+
+    // GET /api/pharmacies/stream 응답 본문 (한 줄에 약국 하나)
+    public void writeNdjson(OutputStream out) throws IOException {
+        for (byte[] row : rows) {
+            out.write(row);
+            out.write('\n');
+        }
+    }
+
+    /**
+     * upserted(ID → JSON)를 추가/교체하고 deletedIds를 뺀 새 스냅샷.
+     * 배열 복사는 참조만 옮기므로 행 수에 비례하지만 행 JSON은 다시 만들지 않습니다.
+     */
+    PharmacySnapshot withChanges(long newVersion, SortedMap<Long, byte[]> upserted, Set<Long> deletedIds) {
+        long[] newIds = new long[ids.length + upserted.size()];
+        byte[][] newRows = new byte[newIds.length][];
+        int size = 0;
+        int i = 0;
+        for (Map.Entry<Long, byte[]> entry : upserted.entrySet()) {
+            long id = entry.getKey();
+            while (i < ids.length && ids[i] < id) {
+                if (!deletedIds.contains(ids[i])) {
+                    newIds[size] = ids[i];
+                    newRows[size++] = rows[i];
+                }
+                i++;
+            }
+            if (i < ids.length && ids[i] == id) {
+                i++;
+            }
+            if (!deletedIds.contains(id)) {
+                newIds[size] = id;
+                newRows[size++] = entry.getValue();
+            }
+        }
+        for (; i < ids.length; i++) {
+            if (!deletedIds.contains(ids[i])) {
+                newIds[size] = ids[i];
+                newRows[size++] = rows[i];
+            }
+        }
+        return new PharmacySnapshot(newVersion, Arrays.copyOf(newIds, size), Arrays.copyOf(newRows, size));
+    }
+
+    // id보다 큰 첫 위치
+    private int firstIndexAfter(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private byte[] arrayJson(int start, int end) {
+        int length = 2 + Math.max(end - start - 1, 0);
+        for (int i = start; i < end; i++) {
+            length += rows[i].length;
+        }
+        byte[] json = new byte[length];
+        json[0] = '[';
+        int position = 1;
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                json[position++] = ',';
+            }
+            position = put(json, position, rows[i]);
+        }
+        json[position] = ']';
+        return json;
+    }
+
+    private static int put(byte[] target, int position, byte[] source) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+}
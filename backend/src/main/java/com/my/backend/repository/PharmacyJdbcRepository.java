@@ -0,0 +1,88 @@
+package com.my.backend.repository;
+
+import com.my.backend.entity.Pharmacy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검색 결과를 한 번에 저장하기 위한 JDBC 배치 저장소.
+ * IDENTITY 키 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * (name, address) 유니크 키를 기준으로 INSERT ... ON DUPLICATE KEY UPDATE 를 배치 실행합니다.
+ * (rewriteBatchedStatements=true 설정 시 MySQL 드라이버가 한 번의 다중 VALUES 문으로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PharmacyJdbcRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO pharmacy (name, address, distance, latitude, longitude) VALUES (?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE distance = VALUES(distance), "
+                    + "latitude = VALUES(latitude), longitude = VALUES(longitude)";
+
+    // 대량 적재: distance는 검색 시점 값이므로 새 행만 0으로 넣고, 기존 행은 좌표만 갱신
+    private static final String IMPORT_UPSERT_SQL =
+            "INSERT INTO pharmacy (name, address, distance, latitude, longitude) VALUES (?, ?, 0, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE latitude = VALUES(latitude), longitude = VALUES(longitude)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, name, address, distance, latitude, longitude FROM pharmacy";
+
+    private static final RowMapper<Pharmacy> PHARMACY_ROW_MAPPER = (rs, rowNum) -> Pharmacy.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .address(rs.getString("address"))
+            .distance(rs.getDouble("distance"))
+            .latitude(rs.getDouble("latitude"))
+            .longitude(rs.getDouble("longitude"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 배치 upsert 후, 저장된 행(ID 포함)을 한 번의 SELECT로 다시 읽어 반환 (총 2회 왕복)
+    public List<Pharmacy> upsertAll(List<Pharmacy> pharmacies) {
+        if (pharmacies.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, pharmacies, pharmacies.size(), (ps, pharmacy) -> {
+            ps.setString(1, pharmacy.getName());
+            ps.setString(2, pharmacy.getAddress());
+            ps.setDouble(3, pharmacy.getDistance());
+            ps.setDouble(4, pharmacy.getLatitude());
+            ps.setDouble(5, pharmacy.getLongitude());
+        });
+
+        return findAllByNameAndAddress(pharmacies);
+    }
+
+    // 대량 적재용 배치 upsert (저장된 행을 다시 읽지 않음)
+    public void importAll(List<Pharmacy> pharmacies) {
+        if (pharmacies.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(IMPORT_UPSERT_SQL, pharmacies, pharmacies.size(), (ps, pharmacy) -> {
+            ps.setString(1, pharmacy.getName());
+            ps.setString(2, pharmacy.getAddress());
+            ps.setDouble(3, pharmacy.getLatitude());
+            ps.setDouble(4, pharmacy.getLongitude());
+        });
+    }
+
+    private List<Pharmacy> findAllByNameAndAddress(List<Pharmacy> pharmacies) {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(" WHERE (name, address) IN (");
+        List<Object> args = new ArrayList<>(pharmacies.size() * 2);
+        for (int i = 0; i < pharmacies.size(); i++) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            args.add(pharmacies.get(i).getName());
+            args.add(pharmacies.get(i).getAddress());
+        }
+        sql.append(')');
+        return jdbcTemplate.query(sql.toString(), PHARMACY_ROW_MAPPER, args.toArray());
+    }
+}
@@ -1,6 +1,7 @@
 package com.my.backend.repository;
 
 import com.my.backend.entity.Pharmacy;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -19,4 +20,7 @@ public interface PharmacyRepository extends JpaRepository<Pharmacy, Long> {
     Optional<Pharmacy> findByNameAndAddress(String name, String address);
 
     Optional<Pharmacy> findByName(String placeName);
+
+    // 키셋 페이지네이션: 커서(id) 이후 행을 id 순으로 조회 (OFFSET 없이 인덱스 범위 스캔)
+    List<Pharmacy> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
\ No newline at end of file
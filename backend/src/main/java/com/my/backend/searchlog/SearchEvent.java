@@ -0,0 +1,57 @@
+package com.my.backend.searchlog;
+
+/**
+ * 검색 로그 한 줄.
+ * 파일 형식(UTF-8, 탭 구분): 시각(epoch ms) \t 위도 \t 경도 \t 반경(m) \t 결과 수 \t 주소
+ * 좌표를 모르면(주소 검색 결과 없음 등) 위도/경도 칸은 비워 둡니다.
+ *
+ * @param latitude  주소의 좌표 (모르면 NaN)
+ * @param longitude 주소의 좌표 (모르면 NaN)
+ */
+public record SearchEvent(long timestampMillis, String address, double latitude, double longitude,
+                          double radius, int resultCount) {
+
+    public boolean hasOrigin() {
+        return !Double.isNaN(latitude) && !Double.isNaN(longitude);
+    }
+
+    public SearchEvent withOrigin(double latitude, double longitude) {
+        return new SearchEvent(timestampMillis, address, latitude, longitude, radius, resultCount);
+    }
+
+    public String toLine() {
+        StringBuilder line = new StringBuilder(64 + address.length())
+                .append(timestampMillis).append('\t');
+        if (hasOrigin()) {
+            line.append(latitude).append('\t').append(longitude).append('\t');
+        } else {
+            line.append('\t').append('\t');
+        }
+        line.append((long) radius).append('\t').append(resultCount).append('\t');
+        // 탭/줄바꿈이 섞인 주소도 한 줄에 들어가도록 공백으로 바꿈
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            line.append(c == '\t' || c == '\n' || c == '\r' ? ' ' : c);
+        }
+        return line.toString();
+    }
+
+    // 형식이 맞지 않는 줄(쓰다 만 마지막 줄 등)이면 null
+    public static SearchEvent parse(String line) {
+        String[] fields = line.split("\t", 6);
+        if (fields.length < 6 || fields[5].isEmpty()) {
+            return null;
+        }
+        try {
+            return new SearchEvent(
+                    Long.parseLong(fields[0]),
+                    fields[5],
+                    fields[1].isEmpty() ? Double.NaN : Double.parseDouble(fields[1]),
+                    fields[2].isEmpty() ? Double.NaN : Double.parseDouble(fields[2]),
+                    Double.parseDouble(fields[3]),
+                    Integer.parseInt(fields[4]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.my.backend.searchlog;
+
+import com.my.backend.cache.GeocodeCache;
+import com.my.backend.dto.DocumentDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 검색 이벤트 로그 (append-only, 세그먼트 파일).
+ * 요청 스레드는 링 버퍼에 이벤트를 넣기만 하고(락/IO 없음, 가득 차면 버림),
+ * 백그라운드 스레드가 flush-interval마다 꺼내 현재 세그먼트 파일 끝에 한 줄씩 씁니다.
+ * - 주소의 좌표는 쓰는 시점에 이 인스턴스의 주소 캐시(L1)에서 찾아 함께 기록 (요청 경로에서는 조회하지 않음)
+ * - 세그먼트가 segment-bytes를 넘으면 새 파일로 넘어가고, max-segments개보다 오래된 파일은 지움
+ * - 시작할 때마다 새 세그먼트로 시작 (이전 세그먼트는 다시 쓰지 않으므로 집계 결과를 재사용할 수 있음)
+ * 기록된 로그는 SearchHotSpotAggregator가 집계해 재시작 후 캐시 예열(SearchWarmUp)에 씁니다.
+ */
+@Component
+@Slf4j
+public class SearchEventLog implements SmartLifecycle {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("search-\\d{13}\\.log");
+    private static final int DRAIN_BATCH = 4096;
+
+    private final GeocodeCache geocodeCache;
+    private final SearchEventRingBuffer<SearchEvent> buffer;
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxSegments;
+    private final long flushIntervalMillis;
+
+    private volatile boolean running;
+    private Thread writer;
+    // 아래 필드는 writer 스레드(및 start/stop)에서만 씀
+    private volatile Path activeSegment;
+    private OutputStream out;
+    private long activeBytes;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public SearchEventLog(GeocodeCache geocodeCache,
+                          @Value("${app.search-log.enabled:true}") boolean enabled,
+                          @Value("${app.search-log.directory:./data/search-log}") String directory,
+                          @Value("${app.search-log.buffer-size:16384}") int bufferSize,
+                          @Value("${app.search-log.segment-bytes:8388608}") long segmentBytes,
+                          @Value("${app.search-log.max-segments:16}") int maxSegments,
+                          @Value("${app.search-log.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.geocodeCache = geocodeCache;
+        this.buffer = new SearchEventRingBuffer<>(bufferSize);
+        this.enabled = enabled;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    // 검색 한 건 기록 (radius: m). 요청 스레드에서 호출하며 블로킹하지 않음
+    public void record(String address, double radius, int resultCount) {
+        if (!running || address == null || address.isBlank()) {
+            return;
+        }
+        buffer.offer(new SearchEvent(System.currentTimeMillis(), address.trim(), Double.NaN, Double.NaN, radius, resultCount));
+    }
+
+    // 보관 중인 세그먼트 (오래된 순, 파일 이름에 생성 시각이 들어 있음)
+    public List<Path> segments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            log.warn("검색 로그 세그먼트 목록 조회 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    // 지금 쓰고 있는 세그먼트 (아직 끝나지 않았으므로 집계 시 매번 다시 읽어야 함, 없으면 null)
+    public Path activeSegment() {
+        return activeSegment;
+    }
+
+    private void writeLoop() {
+        List<SearchEvent> batch = new ArrayList<>(DRAIN_BATCH);
+        while (running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+            drain(batch);
+        }
+    }
+
+    private void drain(List<SearchEvent> batch) {
+        try {
+            boolean wrote = false;
+            while (buffer.drainTo(batch, DRAIN_BATCH) > 0) {
+                for (SearchEvent event : batch) {
+                    write(event);
+                }
+                writtenCount.addAndGet(batch.size());
+                batch.clear();
+                wrote = true;
+            }
+            if (wrote) {
+                out.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            failedCount.addAndGet(batch.size());
+            batch.clear();
+            log.error("검색 로그 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private void write(SearchEvent event) throws IOException {
+        Optional<DocumentDto> origin = geocodeCache.peek(event.address());
+        if (origin != null && origin.isPresent()) {
+            event = event.withOrigin(origin.get().getLatitude(), origin.get().getLongitude());
+        }
+        byte[] line = (event.toLine() + '\n').getBytes(StandardCharsets.UTF_8);
+        if (activeBytes > 0 && activeBytes + line.length > segmentBytes) {
+            roll();
+        }
+        out.write(line);
+        activeBytes += line.length;
+    }
+
+    private void roll() throws IOException {
+        if (out != null) {
+            out.close();
+        }
+        long createdAt = System.currentTimeMillis();
+        Path segment = directory.resolve(String.format("search-%013d.log", createdAt));
+        while (Files.exists(segment)) {
+            segment = directory.resolve(String.format("search-%013d.log", ++createdAt));
+        }
+        out = new BufferedOutputStream(Files.newOutputStream(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.APPEND));
+        activeSegment = segment;
+        activeBytes = 0;
+
+        List<Path> segments = segments();
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            roll();
+        } catch (IOException e) {
+            // 검색 로그는 부가 기능이므로 기록만 끄고 계속 기동
+            log.error("검색 로그 디렉터리를 열 수 없어 기록하지 않습니다: {} ({})", directory, e.getMessage());
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "search-event-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(flushIntervalMillis * 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시 남은 이벤트 기록
+        drain(new ArrayList<>(DRAIN_BATCH));
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("검색 로그 세그먼트 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+}
@@ -0,0 +1,78 @@
+package com.my.backend.searchlog;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 요청 스레드가 넣고(offer) 스레드 하나가 꺼내는(drainTo) 고정 크기 링 버퍼.
+ * 락 없이 CAS로 자리만 잡고, 가득 차면 기다리지 않고 버립니다. (요청 지연에 영향이 없어야 하는 로그용)
+ * 자리를 잡은 뒤 값을 아직 쓰지 않은 칸을 만나면 꺼내기를 멈추므로 넣은 순서대로 꺼냅니다.
+ */
+public final class SearchEventRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    // 다음에 넣을 순번 (생산자들이 CAS로 올림)
+    private final AtomicLong tail = new AtomicLong();
+    // 다음에 꺼낼 순번 (소비자만 씀)
+    private volatile long head;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // capacity는 2의 거듭제곱으로 올림
+    public SearchEventRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("링 버퍼 크기는 1 ~ 2^30 이어야 합니다: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    // 가득 차 있으면 false (버린 개수는 droppedCount)
+    public boolean offer(T value) {
+        while (true) {
+            long sequence = tail.get();
+            if (sequence - head >= slots.length()) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                slots.lazySet((int) (sequence & mask), value);
+                return true;
+            }
+        }
+    }
+
+    // 최대 maxElements개를 넣은 순서대로 target에 옮기고 옮긴 개수를 반환 (소비자 스레드 하나에서만 호출)
+    public int drainTo(List<? super T> target, int maxElements) {
+        long sequence = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (sequence & mask);
+            T value = slots.get(index);
+            if (value == null) {
+                break;
+            }
+            // 칸을 비운 뒤 head를 올려야 생산자가 덮어쓰기 전에 비워진 것이 보장됨
+            slots.lazySet(index, null);
+            target.add(value);
+            sequence++;
+            head = sequence;
+            drained++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
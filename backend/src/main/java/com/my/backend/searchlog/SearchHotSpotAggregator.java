@@ -0,0 +1,142 @@
+package com.my.backend.searchlog;
+
+import com.my.backend.cache.CategorySearchCache;
+import com.my.backend.cache.GeocodeCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 로그 세그먼트를 읽어 자주 검색되는 주소(정규화한 주소 기준)와 타일(카테고리 캐시와 같은 격자 + 반경 구간)을 셉니다.
+ * 끝난 세그먼트는 내용이 바뀌지 않으므로 세그먼트별 집계를 기억해 두고, 쓰고 있는 세그먼트만 매번 다시 읽습니다.
+ * 결과가 0건이었던 검색(주소 오타, 약국 없는 지역)은 예열해도 소용이 없으므로 세지 않습니다.
+ */
+@Component
+@Slf4j
+public class SearchHotSpotAggregator {
+
+    private final SearchEventLog searchEventLog;
+    private final CategorySearchCache categorySearchCache;
+    private final int topAddresses;
+    private final int topTiles;
+    private final long minCount;
+
+    // 세그먼트 → 집계 (aggregate 안에서만 사용)
+    private final Map<Path, Counts> closedSegments = new HashMap<>();
+    private volatile SearchHotSpots current = SearchHotSpots.EMPTY;
+
+    public SearchHotSpotAggregator(SearchEventLog searchEventLog,
+                                   CategorySearchCache categorySearchCache,
+                                   @Value("${app.search-log.hot.top-addresses:200}") int topAddresses,
+                                   @Value("${app.search-log.hot.top-tiles:50}") int topTiles,
+                                   @Value("${app.search-log.hot.min-count:3}") long minCount) {
+        this.searchEventLog = searchEventLog;
+        this.categorySearchCache = categorySearchCache;
+        this.topAddresses = topAddresses;
+        this.topTiles = topTiles;
+        this.minCount = minCount;
+    }
+
+    // 마지막 집계 결과
+    public SearchHotSpots current() {
+        return current;
+    }
+
+    public synchronized SearchHotSpots aggregate() {
+        List<Path> segments = searchEventLog.segments();
+        Path active = searchEventLog.activeSegment();
+        closedSegments.keySet().retainAll(segments);
+
+        Counts total = new Counts();
+        for (Path segment : segments) {
+            total.merge(segment.equals(active) ? read(segment) : closedSegments.computeIfAbsent(segment, this::read));
+        }
+
+        List<SearchHotSpots.HotAddress> addresses = total.addresses.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minCount)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(topAddresses)
+                .map(entry -> new SearchHotSpots.HotAddress(entry.getKey(), entry.getValue()))
+                .toList();
+        List<SearchHotSpots.HotTile> tiles = total.tiles.values().stream()
+                .filter(tile -> tile.count >= minCount)
+                .sorted(Comparator.comparingLong((TileCount tile) -> tile.count).reversed())
+                .limit(topTiles)
+                .map(tile -> new SearchHotSpots.HotTile(tile.latitude, tile.longitude, tile.radius, tile.count))
+                .toList();
+        current = new SearchHotSpots(addresses, tiles);
+        log.debug("검색 로그 집계: 세그먼트 {}개, 주소 {}개, 타일 {}개 중 상위 주소 {}개, 타일 {}개",
+                segments.size(), total.addresses.size(), total.tiles.size(), addresses.size(), tiles.size());
+        return current;
+    }
+
+    private Counts read(Path segment) {
+        Counts counts = new Counts();
+        try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                SearchEvent event = SearchEvent.parse(line);
+                if (event == null || event.resultCount() <= 0) {
+                    continue;
+                }
+                counts.addresses.merge(GeocodeCache.normalize(event.address()), 1L, Long::sum);
+                if (event.hasOrigin()) {
+                    CategorySearchCache.TileKey key = categorySearchCache.tileKeyOf(event.latitude(), event.longitude(), event.radius());
+                    counts.tiles.computeIfAbsent(key, k -> new TileCount()).add(event);
+                }
+            }
+        } catch (IOException e) {
+            // 지워진 세그먼트 등은 건너뜀
+            log.warn("검색 로그 세그먼트 읽기 실패: {} ({})", segment, e.getMessage());
+        }
+        return counts;
+    }
+
+    private static final class Counts {
+        private final Map<String, Long> addresses = new HashMap<>();
+        private final Map<CategorySearchCache.TileKey, TileCount> tiles = new HashMap<>();
+
+        void merge(Counts other) {
+            other.addresses.forEach((address, count) -> addresses.merge(address, count, Long::sum));
+            other.tiles.forEach((key, tile) -> tiles.computeIfAbsent(key, k -> new TileCount()).merge(tile));
+        }
+    }
+
+    private static final class TileCount {
+        private long count;
+        private long lastTimestampMillis = Long.MIN_VALUE;
+        private double latitude;
+        private double longitude;
+        private double radius;
+
+        void add(SearchEvent event) {
+            count++;
+            if (event.timestampMillis() >= lastTimestampMillis) {
+                lastTimestampMillis = event.timestampMillis();
+                latitude = event.latitude();
+                longitude = event.longitude();
+                radius = event.radius();
+            }
+        }
+
+        void merge(TileCount other) {
+            count += other.count;
+            if (other.lastTimestampMillis >= lastTimestampMillis) {
+                lastTimestampMillis = other.lastTimestampMillis;
+                latitude = other.latitude;
+                longitude = other.longitude;
+                radius = other.radius;
+            }
+        }
+    }
+}
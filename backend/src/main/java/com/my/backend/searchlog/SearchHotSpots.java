@@ -0,0 +1,20 @@
+package com.my.backend.searchlog;
+
+import java.util.List;
+
+/**
+ * 검색 로그에서 집계한 자주 검색되는 주소와 지역(카테고리 캐시 타일).
+ *
+ * @param addresses 검색 횟수 많은 순
+ * @param tiles     검색 횟수 많은 순 (좌표/반경은 그 타일에서 가장 최근 검색 기준)
+ */
+public record SearchHotSpots(List<HotAddress> addresses, List<HotTile> tiles) {
+
+    public static final SearchHotSpots EMPTY = new SearchHotSpots(List.of(), List.of());
+
+    public record HotAddress(String address, long count) {
+    }
+
+    public record HotTile(double latitude, double longitude, double radius, long count) {
+    }
+}
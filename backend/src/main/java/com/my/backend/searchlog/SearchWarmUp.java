@@ -0,0 +1,137 @@
+package com.my.backend.searchlog;
+
+import com.my.backend.cache.GeocodeCache;
+import com.my.backend.client.KakaoQuotaExceededException;
+import com.my.backend.service.KakaoAddressSearchService;
+import com.my.backend.service.KakaoCategoryPageIterator;
+import com.my.backend.service.KakaoCategorySearchService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자주 검색되는 주소/지역의 캐시 예열.
+ * - 시작 시: 공간 인덱스/읽기 모델 적재가 끝난 뒤 별도 스레드에서 timeout 안에서 예열
+ *   (readiness를 늦추지 않고, 배포 직후 첫 사용자 검색과 함께 진행)
+ * - 이후 interval마다: 검색 로그를 다시 집계하고, 캐시에서 만료된 항목만 다시 받아 둠
+ * 지역은 카카오 한 페이지(15건)만 받아 둡니다. (기본 검색 개수 3건 응답에 충분)
+ * 이미 캐시(L1/L2)에 있는 항목은 건너뛰고, 카카오 호출은 calls-per-second로 늦춰 실제 검색의 호출 예산을 남겨 둡니다.
+ * 호출 예산이 바닥나면(KakaoQuotaExceededException) 이번 예열은 중단합니다.
+ */
+@Component
+@Slf4j
+public class SearchWarmUp {
+
+    private static final int WARM_UP_LIMIT = KakaoCategoryPageIterator.MAX_PAGE_SIZE;
+
+    private final SearchHotSpotAggregator searchHotSpotAggregator;
+    private final GeocodeCache geocodeCache;
+    private final KakaoAddressSearchService kakaoAddressSearchService;
+    private final KakaoCategorySearchService kakaoCategorySearchService;
+    private final Counter addressWarmUps;
+    private final Counter tileWarmUps;
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final long callIntervalMillis;
+
+    public SearchWarmUp(SearchHotSpotAggregator searchHotSpotAggregator,
+                        GeocodeCache geocodeCache,
+                        KakaoAddressSearchService kakaoAddressSearchService,
+                        KakaoCategorySearchService kakaoCategorySearchService,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.search-log.warm-up.enabled:true}") boolean enabled,
+                        @Value("${app.search-log.warm-up.timeout-ms:20000}") long timeoutMillis,
+                        @Value("${app.search-log.warm-up.calls-per-second:5}") double callsPerSecond) {
+        this.searchHotSpotAggregator = searchHotSpotAggregator;
+        this.geocodeCache = geocodeCache;
+        this.kakaoAddressSearchService = kakaoAddressSearchService;
+        this.kakaoCategorySearchService = kakaoCategorySearchService;
+        this.addressWarmUps = warmUpCounter(meterRegistry, "geocode");
+        this.tileWarmUps = warmUpCounter(meterRegistry, "category");
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+        this.callIntervalMillis = callsPerSecond <= 0 ? 0 : (long) (1000 / callsPerSecond);
+    }
+
+    private static Counter warmUpCounter(MeterRegistry meterRegistry, String cache) {
+        return Counter.builder("pharmacy.cache.warm_up")
+                .description("검색 로그 기반 예열로 카카오에서 받아 캐시에 넣은 항목 수")
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+
+    // ApplicationReadyEvent 리스너 중 마지막에 실행 (인덱스 적재 후), 준비 완료를 막지 않도록 스레드를 따로 띄움
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "search-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(fixedDelayString = "${app.search-log.warm-up.interval-ms:300000}",
+            initialDelayString = "${app.search-log.warm-up.interval-ms:300000}")
+    public void refresh() {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    synchronized void warmUp() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + timeoutMillis * 1_000_000L;
+        SearchHotSpots hotSpots = searchHotSpotAggregator.aggregate();
+        int addresses = 0;
+        int tiles = 0;
+        try {
+            for (SearchHotSpots.HotAddress hot : hotSpots.addresses()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+                // L1만 확인 (캐시 통계에 넣지 않음), L2에 있으면 주소 검색이 L2에서 가져와 L1에 채움
+                if (geocodeCache.peek(hot.address()) == null) {
+                    kakaoAddressSearchService.getAddressSearchResult(hot.address());
+                    addressWarmUps.increment();
+                    addresses++;
+                    pause();
+                }
+            }
+            for (SearchHotSpots.HotTile hot : hotSpots.tiles()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+                if (kakaoCategorySearchService.findCachedDocuments(hot.latitude(), hot.longitude(), hot.radius(), WARM_UP_LIMIT) == null) {
+                    kakaoCategorySearchService.requestCategorySearchAndReturnDocuments(
+                            hot.latitude(), hot.longitude(), hot.radius(), WARM_UP_LIMIT);
+                    tileWarmUps.increment();
+                    tiles++;
+                    pause();
+                }
+            }
+        } catch (KakaoQuotaExceededException e) {
+            log.warn("카카오 호출 예산 초과로 캐시 예열 중단");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (addresses > 0 || tiles > 0) {
+            log.info("캐시 예열: 주소 {}/{}건, 지역 {}/{}건 ({}ms)", addresses, hotSpots.addresses().size(),
+                    tiles, hotSpots.tiles().size(), (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    private void pause() throws InterruptedException {
+        if (callIntervalMillis > 0) {
+            Thread.sleep(callIntervalMillis);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.my.backend.service;
+
+/**
+ * 이미 app.coverage.max-concurrent개의 커버리지 분석이 진행 중인 경우.
+ * 컨트롤러에서 409로 응답합니다. (응답 본문을 쓰기 전에 던지므로 스트리밍 응답에서도 상태 코드를 바꿀 수 있음)
+ */
+public class CoverageAnalysisBusyException extends RuntimeException {
+
+    public CoverageAnalysisBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,100 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.KakaoApiResponseDto;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 카카오 카테고리 검색 결과를 거리순으로 한 건씩 돌려주는 지연(lazy) 페이지 이터레이터.
+ * 다음 페이지는 현재 페이지를 다 소비했을 때만 요청하므로, 필요한 개수만큼만 호출합니다.
+ * meta.is_end 이거나 카카오 최대 페이지(45)에 도달하면 멈춥니다.
+ */
+public class KakaoCategoryPageIterator implements Iterator<DocumentDto> {
+
+    // 카카오 카테고리 검색 페이지 제한
+    public static final int MAX_PAGE_SIZE = 15;
+    public static final int MAX_PAGE = 45;
+
+    private final KakaoCategorySearchService kakaoCategorySearchService;
+    private final double latitude;
+    private final double longitude;
+    private final double radius;
+    private final int pageSize;
+
+    private List<DocumentDto> currentPage = List.of();
+    private int indexInPage;
+    private int page;
+    private boolean lastPage;
+    private boolean complete;
+    private boolean failed;
+
+    public KakaoCategoryPageIterator(KakaoCategorySearchService kakaoCategorySearchService,
+                                     double latitude, double longitude, double radius, int pageSize) {
+        this.kakaoCategorySearchService = kakaoCategorySearchService;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.radius = radius;
+        this.pageSize = Math.min(Math.max(pageSize, 1), MAX_PAGE_SIZE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (indexInPage >= currentPage.size()) {
+            if (lastPage) {
+                return false;
+            }
+            fetchNextPage();
+        }
+        return true;
+    }
+
+    @Override
+    public DocumentDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.get(indexInPage++);
+    }
+
+    // 이미 받아온 현재 페이지에서 아직 소비하지 않은 결과 (추가 호출 없음)
+    public List<DocumentDto> remainingInCurrentPage() {
+        List<DocumentDto> remaining = new ArrayList<>(currentPage.subList(Math.min(indexInPage, currentPage.size()), currentPage.size()));
+        indexInPage = currentPage.size();
+        return remaining;
+    }
+
+    // 카카오가 마지막 페이지라고 응답했는지 (이때만 반경 내 결과를 모두 받았다고 볼 수 있음)
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public int getFetchedPages() {
+        return page;
+    }
+
+    private void fetchNextPage() {
+        page++;
+        KakaoApiResponseDto response = kakaoCategorySearchService.resultCategorySearch(
+                latitude, longitude, radius, page, pageSize);
+        indexInPage = 0;
+
+        if (response == null) {
+            failed = true;
+            lastPage = true;
+            currentPage = List.of();
+            return;
+        }
+        currentPage = response.getDocumentList() == null ? List.of() : response.getDocumentList();
+        boolean isEnd = response.getMetaDto() == null || !Boolean.FALSE.equals(response.getMetaDto().getIsEnd());
+        complete = isEnd || currentPage.isEmpty();
+        lastPage = complete || page >= MAX_PAGE;
+    }
+}
@@ -1,43 +1,45 @@
 package com.my.backend.service;
 
+import com.my.backend.cache.CategorySearchCache;
+import com.my.backend.client.KakaoApiClient;
+import com.my.backend.client.KakaoAsyncApiClient;
 import com.my.backend.dto.DocumentDto;
 import com.my.backend.dto.KakaoApiResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException; // API 클라이언트 에러(4xx) 처리를 위해 추가
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.util.CollectionUtils;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections; // Collections.emptyList() 사용을 위해 추가
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class KakaoCategorySearchService {
-    private final RestTemplate restTemplate;
+    private final KakaoApiClient kakaoApiClient;
+    private final KakaoAsyncApiClient kakaoAsyncApiClient;
+    private final CategorySearchCache categorySearchCache;
 
-    @Value("${MY_KAKAO_KEY}")
-    private String kakaoRestApiKey;
-
-    private static final String KAKAO_CATEGORY_URL =
-            "https://dapi.kakao.com/v2/local/search/category.json";
+    private static final String KAKAO_CATEGORY_PATH = "/v2/local/search/category.json";
 
     public KakaoApiResponseDto resultCategorySearch(double latitude, double longitude, double radius) {
-        if(kakaoRestApiKey == null || kakaoRestApiKey.isEmpty()) {
-            log.error("카카오 API 키가 설정되지 않았습니다.");
-            return null;
-        }
+        return resultCategorySearch(latitude, longitude, radius, 1, KakaoCategoryPageIterator.MAX_PAGE_SIZE);
+    }
 
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder
-                .fromUriString(KAKAO_CATEGORY_URL);
+    // page: 1~45, size: 1~15
+    public KakaoApiResponseDto resultCategorySearch(double latitude, double longitude, double radius, int page, int size) {
+        // 인증 헤더, 재시도, 오류 처리(null 반환)는 KakaoApiClient에서 처리
+        return kakaoApiClient.get(categorySearchUri(latitude, longitude, radius, page, size));
+    }
+
+    private URI categorySearchUri(double latitude, double longitude, double radius, int page, int size) {
+        UriComponentsBuilder uriBuilder = kakaoApiClient.uriBuilder(KAKAO_CATEGORY_PATH);
 
         // 파라미터 설정
         uriBuilder.queryParam("category_group_code", "PM9");
@@ -45,41 +47,135 @@ public class KakaoCategorySearchService {
         uriBuilder.queryParam("y", latitude);
         uriBuilder.queryParam("radius", radius);
         uriBuilder.queryParam("sort", "distance");
+        uriBuilder.queryParam("page", page);
+        uriBuilder.queryParam("size", size);
 
-        URI uri = uriBuilder.build().encode().toUri();
-        log.info("Category Search URI: {}", uri); // 🛑 로그 추가
-
-        // ⭐ 헤더 설정 수정: KA 헤더 단순화
-        HttpHeaders headers = new HttpHeaders();
-        headers.set(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakaoRestApiKey);
-        headers.set("KA", "SDK/1.0.0"); // 표준 형식으로 단순화
-
-        HttpEntity<Object> httpEntity = new HttpEntity<>(headers);
-
-        try {
-            return restTemplate.exchange(
-                    uri,
-                    HttpMethod.GET,
-                    httpEntity,
-                    KakaoApiResponseDto.class
-            ).getBody();
-        } catch (HttpClientErrorException e) {
-            // 4xx 에러 (401 Unauthorized, 400 Bad Request 등) 처리
-            log.error("카카오 카테고리 API 호출 중 클라이언트 에러 발생 ({}): {}", e.getStatusCode(), e.getResponseBodyAsString());
-            return null;
-        } catch (Exception e) {
-            // 기타 네트워크/IO 에러 처리
-            log.error("카카오 카테고리 API 호출 중 일반 에러 발생: {}", e.getMessage());
-            return null;
-        }
+        return uriBuilder.build().encode().toUri();
     }
 
-    public List<DocumentDto> requestCategorySearchAndReturnDocuments(double latitude, double longitude, double radius) {
-        KakaoApiResponseDto response = resultCategorySearch(latitude, longitude, radius);
+    /**
+     * 좌표 기준 반경(m) 이내 약국을 가까운 순으로 최대 limit개 반환.
+     * 양자화된 타일 캐시로 답할 수 있으면 카카오를 호출하지 않습니다.
+     */
+    public List<DocumentDto> requestCategorySearchAndReturnDocuments(double latitude, double longitude, double radius, int limit) {
+        List<DocumentDto> cached = categorySearchCache.find(latitude, longitude, radius, limit);
+        if (cached != null) {
+            log.debug("카테고리 검색 캐시 히트: ({}, {}) 반경 {}m", latitude, longitude, radius);
+            return cached;
+        }
+
+        // 캐시 구간 반경으로 요청해야 이후 다른 반경 요청에도 재사용 가능
+        int bucketRadius = CategorySearchCache.bucketRadius(radius);
+        KakaoCategoryPageIterator pages = new KakaoCategoryPageIterator(
+                this, latitude, longitude, bucketRadius, KakaoCategoryPageIterator.MAX_PAGE_SIZE);
+
+        // 거리순이므로 limit개를 채우거나 요청 반경을 넘어서는 결과가 나오면 더 이상 페이지를 요청하지 않음
+        List<DocumentDto> fetched = new ArrayList<>();
+        List<DocumentDto> results = new ArrayList<>();
+        while (results.size() < limit && pages.hasNext()) {
+            DocumentDto document = pages.next();
+            fetched.add(document);
+            if (document.getDistance() > radius) {
+                break;
+            }
+            results.add(document);
+        }
+        // 이미 받은 페이지의 나머지도 캐시에 함께 저장
+        fetched.addAll(pages.remainingInCurrentPage());
 
-        if (response == null || CollectionUtils.isEmpty(response.getDocumentList())) {
+        if (pages.isFailed() && fetched.isEmpty()) {
             return Collections.emptyList();
         }
-        return response.getDocumentList();
+        categorySearchCache.put(latitude, longitude, bucketRadius, fetched, pages.isComplete());
+        log.debug("카테고리 검색: {}페이지 요청, {}건 중 {}건 반환", pages.getFetchedPages(), fetched.size(), results.size());
+        return results;
+    }
+
+    // 캐시로 답할 수 있을 때만 결과 반환 (카카오를 호출하지 않음, 없으면 null) - 과부하 시 로컬 데이터 응답용
+    public List<DocumentDto> findCachedDocuments(double latitude, double longitude, double radius, int limit) {
+        return categorySearchCache.find(latitude, longitude, radius, limit);
+    }
+
+    /**
+     * requestCategorySearchAndReturnDocuments의 비동기 버전.
+     * 반경 안의 약국을 거리순으로 찾는 대로 onResult에 하나씩 넘기고(페이지가 도착할 때마다),
+     * 끝나면 전체 결과로 완료됩니다. 페이지 요청 사이에도 스레드를 점유하지 않습니다.
+     * cancelled가 true가 되면 다음 페이지를 요청하지 않고 그때까지 받은 결과로 끝냅니다.
+     */
+    public CompletableFuture<List<DocumentDto>> requestCategorySearchAsync(double latitude, double longitude, double radius,
+                                                                          int limit, Consumer<DocumentDto> onResult,
+                                                                          AtomicBoolean cancelled) {
+        List<DocumentDto> cached = categorySearchCache.find(latitude, longitude, radius, limit);
+        if (cached != null) {
+            log.debug("카테고리 검색 캐시 히트: ({}, {}) 반경 {}m", latitude, longitude, radius);
+            cached.forEach(onResult);
+            return CompletableFuture.completedFuture(cached);
+        }
+        return new AsyncCategoryFetch(latitude, longitude, radius, limit, onResult, cancelled).fetchPage(1);
+    }
+
+    // 동기 경로(KakaoCategoryPageIterator + 위 메서드)와 같은 규칙으로 페이지를 이어서 요청
+    private final class AsyncCategoryFetch {
+        private final double latitude;
+        private final double longitude;
+        private final double radius;
+        private final int bucketRadius;
+        private final int limit;
+        private final Consumer<DocumentDto> onResult;
+        private final AtomicBoolean cancelled;
+
+        private final List<DocumentDto> fetched = new ArrayList<>();
+        private final List<DocumentDto> results = new ArrayList<>();
+        private boolean beyondRadius;
+
+        private AsyncCategoryFetch(double latitude, double longitude, double radius, int limit, Consumer<DocumentDto> onResult,
+                                   AtomicBoolean cancelled) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.radius = radius;
+            this.bucketRadius = CategorySearchCache.bucketRadius(radius);
+            this.limit = limit;
+            this.onResult = onResult;
+            this.cancelled = cancelled;
+        }
+
+        private CompletableFuture<List<DocumentDto>> fetchPage(int page) {
+            URI uri = categorySearchUri(latitude, longitude, bucketRadius, page, KakaoCategoryPageIterator.MAX_PAGE_SIZE);
+            return kakaoAsyncApiClient.getAsync(uri, Integer.MAX_VALUE).thenCompose(response -> {
+                if (response == null) {
+                    if (fetched.isEmpty()) {
+                        return CompletableFuture.completedFuture(Collections.<DocumentDto>emptyList());
+                    }
+                    return CompletableFuture.completedFuture(finish(page, false));
+                }
+                List<DocumentDto> documents = response.getDocumentList() == null ? List.of() : response.getDocumentList();
+                for (DocumentDto document : documents) {
+                    fetched.add(document);
+                    if (beyondRadius || results.size() >= limit) {
+                        // 이미 받은 페이지의 나머지는 캐시에만 저장
+                        continue;
+                    }
+                    if (document.getDistance() > radius) {
+                        beyondRadius = true;
+                        continue;
+                    }
+                    results.add(document);
+                    onResult.accept(document);
+                }
+                boolean isEnd = response.getMetaDto() == null || !Boolean.FALSE.equals(response.getMetaDto().getIsEnd());
+                boolean complete = isEnd || documents.isEmpty();
+                if (complete || beyondRadius || results.size() >= limit || page >= KakaoCategoryPageIterator.MAX_PAGE
+                        || cancelled.get()) {
+                    return CompletableFuture.completedFuture(finish(page, complete));
+                }
+                return fetchPage(page + 1);
+            });
+        }
+
+        private List<DocumentDto> finish(int pages, boolean complete) {
+            categorySearchCache.put(latitude, longitude, bucketRadius, fetched, complete);
+            log.debug("카테고리 비동기 검색: {}페이지 요청, {}건 중 {}건 반환", pages, fetched.size(), results.size());
+            return results;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.BatchSearchResultDto;
+import com.my.backend.dto.OutputDto;
+import com.my.backend.dto.SearchRequestDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 여러 주소를 한 번에 검색하는 일괄 검색 서비스.
+ * 각 주소를 전용 스레드 풀에서 병렬로 처리하므로 전체 소요 시간은 N × 왕복 시간이 아니라 동시성에 비례합니다.
+ * 일괄 요청 전체에는 제출 시점부터 batch-timeout이 적용되어, 다른 일괄 요청 뒤에 밀려 있어도 그 안에 응답합니다.
+ * (기한이 지난 뒤 차례가 온 항목은 검색하지 않고 건너뜀, 풀 대기열이 가득 차면 REJECTED)
+ */
+@Service
+@Slf4j
+public class PharmacyBatchSearchService {
+
+    // 항목 하나 검색 (PharmacyService.searchAndSavePharmacies)
+    private final Function<SearchRequestDto, List<OutputDto>> search;
+    private final ExecutorService batchSearchExecutor;
+    private final long itemTimeoutMillis;
+    private final long batchTimeoutMillis;
+
+    @Autowired
+    public PharmacyBatchSearchService(PharmacyService pharmacyService,
+                                      @Qualifier("batchSearchExecutor") ExecutorService batchSearchExecutor,
+                                      @Value("${app.search.batch.item-timeout-ms:5000}") long itemTimeoutMillis,
+                                      @Value("${app.search.batch.timeout-ms:30000}") long batchTimeoutMillis) {
+        this(pharmacyService::searchAndSavePharmacies, batchSearchExecutor, itemTimeoutMillis, batchTimeoutMillis);
+    }
+
+    PharmacyBatchSearchService(Function<SearchRequestDto, List<OutputDto>> search, ExecutorService batchSearchExecutor,
+                               long itemTimeoutMillis, long batchTimeoutMillis) {
+        this.search = search;
+        this.batchSearchExecutor = batchSearchExecutor;
+        this.itemTimeoutMillis = itemTimeoutMillis;
+        this.batchTimeoutMillis = batchTimeoutMillis;
+    }
+
+    // 요청 순서대로 항목별 결과(실패 포함)를 반환
+    public List<BatchSearchResultDto> searchAll(List<SearchRequestDto> requests) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMillis);
+        List<CompletableFuture<BatchSearchResultDto>> futures = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            futures.add(submit(i, requests.get(i), deadlineNanos));
+        }
+        List<BatchSearchResultDto> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<BatchSearchResultDto> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private CompletableFuture<BatchSearchResultDto> submit(int index, SearchRequestDto request, long deadlineNanos) {
+        if (request == null || request.getAddress() == null || request.getAddress().isBlank()) {
+            return CompletableFuture.completedFuture(BatchSearchResultDto.builder()
+                    .index(index)
+                    .address(request == null ? null : request.getAddress())
+                    .status("INVALID")
+                    .results(List.of())
+                    .error("address is required")
+                    .build());
+        }
+        CompletableFuture<List<OutputDto>> future = new CompletableFuture<>();
+        // 큐에서 기다리는 시간까지 포함해 일괄 요청 기한이 지나면 TIMEOUT으로 완료
+        future.orTimeout(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        try {
+            batchSearchExecutor.execute(() -> {
+                // 기한이 지나 이미 TIMEOUT으로 끝난 항목은 검색하지 않음
+                if (future.isDone()) {
+                    return;
+                }
+                // 실제 처리를 시작한 시점부터 항목별 타임아웃 적용 (일괄 요청 기한이 더 빠르면 그쪽)
+                future.orTimeout(itemTimeoutMillis, TimeUnit.MILLISECONDS);
+                try {
+                    future.complete(search.apply(request));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future.handle((results, error) -> toResult(index, request, results, error));
+    }
+
+    private BatchSearchResultDto toResult(int index, SearchRequestDto request, List<OutputDto> results, Throwable error) {
+        BatchSearchResultDto.BatchSearchResultDtoBuilder builder = BatchSearchResultDto.builder()
+                .index(index)
+                .address(request.getAddress());
+
+        if (error == null) {
+            return builder
+                    .status(results.isEmpty() ? "EMPTY" : "OK")
+                    .results(results)
+                    .build();
+        }
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            log.warn("일괄 검색 항목 타임아웃 (항목 {}ms, 전체 {}ms): {}", itemTimeoutMillis, batchTimeoutMillis, request.getAddress());
+            return builder.status("TIMEOUT").results(List.of())
+                    .error("timeout (item " + itemTimeoutMillis + " ms, batch " + batchTimeoutMillis + " ms)").build();
+        }
+        if (cause instanceof RejectedExecutionException) {
+            log.warn("일괄 검색 대기열이 가득 차 항목 거부: {}", request.getAddress());
+            return builder.status("REJECTED").results(List.of()).error("batch search queue is full").build();
+        }
+        log.error("일괄 검색 항목 실패: {} - {}", request.getAddress(), cause.getMessage());
+        return builder.status("FAILED").results(List.of()).error(String.valueOf(cause.getMessage())).build();
+    }
+}
@@ -0,0 +1,186 @@
+package com.my.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.dto.CoverageHeaderDto;
+import com.my.backend.dto.CoverageRowDto;
+import com.my.backend.geo.CoverageGrid;
+import com.my.backend.geo.GeoUtils;
+import com.my.backend.geo.PharmacyPointSet;
+import com.my.backend.geo.PharmacySpatialIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 약국 커버리지 분석: 영역을 격자로 나눠 셀마다 가장 가까운 약국까지 거리와 반경 안 약국 수를 계산합니다.
+ * 저장된 약국(공간 인덱스) 중 영역 주변에 있는 것만 기본형 배열(PharmacyPointSet)로 옮긴 뒤
+ * 행 묶음(block-cells개 셀)마다 fork/join으로 나눠 계산하고, 끝난 묶음부터 NDJSON으로 씁니다.
+ * 카카오는 호출하지 않으며, 응답 메모리는 격자 크기와 관계없이 한 묶음만큼입니다.
+ * CPU를 많이 쓰므로 동시에 max-concurrent개까지만 실행합니다. (허가는 writeNdjson 안에서만 잡으므로,
+ * 응답 본문이 실행되지 않고 끝나도(클라이언트 연결 종료, 비동기 요청 timeout) 허가가 새지 않음)
+ */
+@Service
+@Slf4j
+public class PharmacyCoverageService {
+
+    private static final double MIN_BUCKET_METERS = 250;
+
+    private final PharmacySpatialIndex pharmacySpatialIndex;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool coverageAnalysisPool;
+    private final long maxCells;
+    private final double minCellMeters;
+    private final double maxRadiusMeters;
+    private final double maxNearestMeters;
+    private final int blockCells;
+    private final Semaphore permits;
+
+    public PharmacyCoverageService(PharmacySpatialIndex pharmacySpatialIndex,
+                                   ObjectMapper objectMapper,
+                                   @Qualifier("coverageAnalysisPool") ForkJoinPool coverageAnalysisPool,
+                                   @Value("${app.coverage.max-cells:2000000}") long maxCells,
+                                   @Value("${app.coverage.min-cell-meters:20}") double minCellMeters,
+                                   @Value("${app.coverage.max-radius-meters:3000}") double maxRadiusMeters,
+                                   @Value("${app.coverage.max-nearest-meters:20000}") double maxNearestMeters,
+                                   @Value("${app.coverage.block-cells:65536}") int blockCells,
+                                   @Value("${app.coverage.max-concurrent:1}") int maxConcurrent) {
+        this.pharmacySpatialIndex = pharmacySpatialIndex;
+        this.objectMapper = objectMapper;
+        this.coverageAnalysisPool = coverageAnalysisPool;
+        this.maxCells = maxCells;
+        this.minCellMeters = minCellMeters;
+        this.maxRadiusMeters = maxRadiusMeters;
+        this.maxNearestMeters = maxNearestMeters;
+        this.blockCells = Math.max(blockCells, 1);
+        this.permits = new Semaphore(Math.max(maxConcurrent, 1));
+    }
+
+    /**
+     * 요청을 검사하고 분석할 약국 좌표를 모아 둡니다. 계산은 Analysis.writeNdjson에서 응답을 쓰면서 진행합니다.
+     * 영역/셀 크기/반경이 잘못되었거나 셀이 너무 많으면 IllegalArgumentException,
+     * 이미 max-concurrent개의 분석이 진행 중이면 CoverageAnalysisBusyException. (허가는 잡지 않고 확인만 함)
+     */
+    public Analysis prepare(double south, double west, double north, double east, double cellMeters, double radiusMeters) {
+        if (!(cellMeters >= minCellMeters)) {
+            throw new IllegalArgumentException("셀 크기는 " + minCellMeters + "m 이상이어야 합니다: " + cellMeters);
+        }
+        if (!(radiusMeters > 0 && radiusMeters <= maxRadiusMeters)) {
+            throw new IllegalArgumentException("반경은 0 ~ " + maxRadiusMeters + "m 여야 합니다: " + radiusMeters);
+        }
+        CoverageGrid grid = CoverageGrid.of(south, west, north, east, cellMeters);
+        if (grid.cells() > maxCells) {
+            throw new IllegalArgumentException("격자 셀이 너무 많습니다: " + grid.cells() + " (최대 " + maxCells + ")");
+        }
+        if (permits.availablePermits() == 0) {
+            throw new CoverageAnalysisBusyException("이미 커버리지 분석이 진행 중입니다.");
+        }
+        return new Analysis(grid, cellMeters, radiusMeters, collectPoints(south, west, north, east, radiusMeters));
+    }
+
+    // 영역에서 max(반경, 최근접 상한)보다 멀리 있는 약국은 결과에 영향이 없으므로 제외
+    private PharmacyPointSet collectPoints(double south, double west, double north, double east, double radiusMeters) {
+        double marginMeters = Math.max(radiusMeters, maxNearestMeters);
+        double minLat = south - marginMeters / GeoUtils.METERS_PER_DEGREE_LATITUDE;
+        double maxLat = north + marginMeters / GeoUtils.METERS_PER_DEGREE_LATITUDE;
+        double widestLatitude = Math.min(89.0, Math.max(Math.abs(minLat), Math.abs(maxLat)));
+        double lonMargin = marginMeters / GeoUtils.metersPerDegreeLongitude(widestLatitude);
+        double minLon = west - lonMargin;
+        double maxLon = east + lonMargin;
+
+        double[][] points = {new double[1024], new double[1024]};
+        int[] size = {0};
+        pharmacySpatialIndex.forEach(pharmacy -> {
+            if (pharmacy.latitude() < minLat || pharmacy.latitude() > maxLat
+                    || pharmacy.longitude() < minLon || pharmacy.longitude() > maxLon) {
+                return;
+            }
+            if (size[0] == points[0].length) {
+                points[0] = Arrays.copyOf(points[0], size[0] * 2);
+                points[1] = Arrays.copyOf(points[1], size[0] * 2);
+            }
+            points[0][size[0]] = pharmacy.latitude();
+            points[1][size[0]] = pharmacy.longitude();
+            size[0]++;
+        });
+        // 버킷 크기를 반경과 비슷하게 두면 반경 안을 셀 때 3x3 버킷 안팎만 봄
+        // (반경이 아주 작으면 최근접 약국을 찾느라 링을 많이 돌지 않도록 MIN_BUCKET_METERS 이상)
+        double bucketMeters = Math.max(radiusMeters, MIN_BUCKET_METERS);
+        return PharmacyPointSet.of(points[0], points[1], size[0], bucketMeters / GeoUtils.METERS_PER_DEGREE_LATITUDE);
+    }
+
+    /**
+     * 준비된 분석 한 건. writeNdjson은 계산하는 동안만 동시 실행 허가를 잡고, 끝나면(실패해도) 반납합니다.
+     */
+    public final class Analysis {
+
+        private final CoverageGrid grid;
+        private final double cellMeters;
+        private final double radiusMeters;
+        private final PharmacyPointSet points;
+
+        private Analysis(CoverageGrid grid, double cellMeters, double radiusMeters, PharmacyPointSet points) {
+            this.grid = grid;
+            this.cellMeters = cellMeters;
+            this.radiusMeters = radiusMeters;
+            this.points = points;
+        }
+
+        // 첫 줄은 CoverageHeaderDto, 이후 한 줄에 한 행(CoverageRowDto)씩, 북쪽 행부터
+        // prepare 이후 다른 분석이 먼저 허가를 가져갔으면 아무것도 쓰지 않고 CoverageAnalysisBusyException
+        public void writeNdjson(OutputStream out) throws IOException {
+            if (!permits.tryAcquire()) {
+                throw new CoverageAnalysisBusyException("이미 커버리지 분석이 진행 중입니다.");
+            }
+            long startedAt = System.nanoTime();
+            try {
+                writeLine(out, CoverageHeaderDto.builder()
+                        .north(grid.north())
+                        .west(grid.west())
+                        .latStep(grid.latStep())
+                        .lonStep(grid.lonStep())
+                        .rows(grid.rows())
+                        .cols(grid.cols())
+                        .cellMeters(cellMeters)
+                        .radius(radiusMeters)
+                        .maxNearest(maxNearestMeters)
+                        .pharmacies(points.size())
+                        .build());
+                out.flush();
+
+                int cols = grid.cols();
+                int blockRows = Math.max(1, blockCells / cols);
+                int[] nearest = new int[blockRows * cols];
+                int[] counts = new int[blockRows * cols];
+                for (int fromRow = 0; fromRow < grid.rows(); fromRow += blockRows) {
+                    int toRow = Math.min(fromRow + blockRows, grid.rows());
+                    points.measureRows(grid, fromRow, toRow, radiusMeters, maxNearestMeters, nearest, counts, coverageAnalysisPool);
+                    for (int row = fromRow; row < toRow; row++) {
+                        int offset = (row - fromRow) * cols;
+                        writeLine(out, CoverageRowDto.builder()
+                                .row(row)
+                                .nearest(Arrays.copyOfRange(nearest, offset, offset + cols))
+                                .counts(Arrays.copyOfRange(counts, offset, offset + cols))
+                                .build());
+                    }
+                    out.flush();
+                }
+                log.info("약국 커버리지 분석 완료: {}x{} 셀, 약국 {}곳, {}ms",
+                        grid.rows(), cols, points.size(), (System.nanoTime() - startedAt) / 1_000_000);
+            } finally {
+                permits.release();
+            }
+        }
+
+        private void writeLine(OutputStream out, Object value) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.ImportResultDto;
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.event.PharmacyChangedEvent;
+import com.my.backend.importer.ImportCheckpoint;
+import com.my.backend.importer.PharmacyCsvFile;
+import com.my.backend.repository.PharmacyJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전국 약국 CSV 대량 적재.
+ * 파일을 청크로 나눠 parallelism개 스레드가 청크마다 메모리 매핑 파싱 → batch-size 단위 JDBC 배치 upsert를 수행하고,
+ * 끝난 청크는 체크포인트에 기록합니다. 모든 청크가 끝나면 체크포인트를 지웁니다.
+ * 한 청크라도 적재했으면 PharmacyChangedEvent(bulk)를 발행해 공간 인덱스 재적재와 테이블 버전 갱신이 일어나게 합니다.
+ */
+@Service
+@Slf4j
+public class PharmacyImportService {
+
+    private final PharmacyJdbcRepository pharmacyJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path importDirectory;
+    private final long chunkBytes;
+    private final int batchSize;
+    private final int parallelism;
+
+    // 동시에 하나의 적재만 허용
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PharmacyImportService(PharmacyJdbcRepository pharmacyJdbcRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.import.directory:./data}") String importDirectory,
+                                 @Value("${app.import.chunk-bytes:8388608}") long chunkBytes,
+                                 @Value("${app.import.batch-size:1000}") int batchSize,
+                                 @Value("${app.import.parallelism:4}") int parallelism) {
+        this.pharmacyJdbcRepository = pharmacyJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.importDirectory = Path.of(importDirectory).toAbsolutePath().normalize();
+        this.chunkBytes = chunkBytes;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * app.import.directory 안의 CSV 파일을 적재합니다.
+     * 디렉터리 밖을 가리키는 경로나 없는 파일이면 IllegalArgumentException,
+     * 이미 다른 적재가 진행 중이면 IllegalStateException.
+     */
+    public ImportResultDto importCsv(String fileName) {
+        Path csv = resolve(fileName);
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 약국 데이터 적재가 진행 중입니다.");
+        }
+        try {
+            return importFile(csv);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Path resolve(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("적재할 파일 이름이 없습니다.");
+        }
+        Path csv = importDirectory.resolve(fileName).normalize();
+        if (!csv.startsWith(importDirectory) || !Files.isRegularFile(csv)) {
+            throw new IllegalArgumentException("적재할 수 없는 파일입니다: " + fileName);
+        }
+        return csv;
+    }
+
+    private ImportResultDto importFile(Path csv) {
+        long startedAt = System.nanoTime();
+        LongAdder rowsRead = new LongAdder();
+        LongAdder rowsWritten = new LongAdder();
+        LongAdder rowsRejected = new LongAdder();
+        AtomicInteger completedChunks = new AtomicInteger();
+        ImportResultDto.ImportResultDtoBuilder result = ImportResultDto.builder().file(csv.getFileName().toString());
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "pharmacy-import-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (PharmacyCsvFile file = new PharmacyCsvFile(csv)) {
+            ImportCheckpoint checkpoint = ImportCheckpoint.loadOrCreate(csv, chunkBytes);
+            List<PharmacyCsvFile.Chunk> chunks = file.planChunks(checkpoint.getChunkBytes());
+            int skipped = checkpoint.completedCount();
+            result.totalChunks(chunks.size()).skippedChunks(skipped);
+            log.info("약국 데이터 적재 시작: {} ({} bytes, 청크 {}개 중 {}개 완료 상태)", csv, file.size(), chunks.size(), skipped);
+
+            // 한 청크가 실패하면 아직 시작하지 않은 청크는 건너뜀 (완료된 청크는 체크포인트에 남음)
+            AtomicBoolean aborted = new AtomicBoolean();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (PharmacyCsvFile.Chunk chunk : chunks) {
+                if (checkpoint.isCompleted(chunk.index())) {
+                    continue;
+                }
+                futures.add(CompletableFuture.runAsync(() -> {
+                    if (aborted.get()) {
+                        return;
+                    }
+                    try {
+                        importChunk(file, chunk, rowsRead, rowsWritten, rowsRejected);
+                        checkpoint.markCompleted(chunk.index());
+                        completedChunks.incrementAndGet();
+                    } catch (IOException e) {
+                        aborted.set(true);
+                        throw new UncheckedIOException(e);
+                    } catch (RuntimeException e) {
+                        aborted.set(true);
+                        throw e;
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            checkpoint.delete();
+            result.status("COMPLETED");
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            log.error("약국 데이터 적재 실패 (다시 요청하면 체크포인트부터 이어서 적재): {}", csv, cause);
+            result.status("FAILED").error(cause.getMessage());
+        } catch (IOException | RuntimeException e) {
+            log.error("약국 데이터 적재 실패: {}", csv, e);
+            result.status("FAILED").error(e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (completedChunks.get() > 0) {
+            // 새로 적재한 약국도 /nearby, 검색 로컬 응답에서 바로 찾을 수 있도록 인덱스 재적재
+            eventPublisher.publishEvent(PharmacyChangedEvent.bulkLoaded());
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        ImportResultDto dto = result
+                .completedChunks(completedChunks.get())
+                .rowsRead(rowsRead.sum())
+                .rowsWritten(rowsWritten.sum())
+                .rowsRejected(rowsRejected.sum())
+                .elapsedMillis(elapsedMillis)
+                .build();
+        log.info("약국 데이터 적재 종료: {}", dto);
+        return dto;
+    }
+
+    private void importChunk(PharmacyCsvFile file, PharmacyCsvFile.Chunk chunk,
+                             LongAdder rowsRead, LongAdder rowsWritten, LongAdder rowsRejected) throws IOException {
+        List<Pharmacy> batch = new ArrayList<>(batchSize);
+        PharmacyCsvFile.ChunkStats stats = file.parse(chunk, pharmacy -> {
+            batch.add(pharmacy);
+            if (batch.size() >= batchSize) {
+                pharmacyJdbcRepository.importAll(batch);
+                rowsWritten.add(batch.size());
+                batch.clear();
+            }
+        });
+        pharmacyJdbcRepository.importAll(batch);
+        rowsWritten.add(batch.size());
+        rowsRead.add(stats.rowsRead());
+        rowsRejected.add(stats.rowsRejected());
+    }
+}
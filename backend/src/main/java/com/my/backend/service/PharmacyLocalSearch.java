@@ -0,0 +1,57 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.OutputDto;
+import com.my.backend.geo.PharmacySpatialIndex;
+import com.my.backend.metrics.SearchMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 카카오를 호출하지 않는 검색: 메모리 공간 인덱스의 주변 약국과, 과부하 시의 로컬 데이터 응답.
+ * 블로킹 검색(PharmacyService)과 스트리밍 검색(PharmacyStreamSearchService)이 같이 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PharmacyLocalSearch {
+
+    private final PharmacySpatialIndex pharmacySpatialIndex;
+    private final KakaoCategorySearchService kakaoCategorySearchService;
+    private final SearchMetrics searchMetrics;
+
+    // 메모리 공간 인덱스 기반 주변 약국 조회 (반경 m, 가까운 순)
+    public List<OutputDto> findNearby(double latitude, double longitude, double radius, int limit) {
+        return pharmacySpatialIndex.findNearest(latitude, longitude, limit, radius).stream()
+                .map(hit -> PharmacyOutputMapper.toOutputDto(
+                        hit.pharmacy().name(),
+                        hit.pharmacy().address(),
+                        hit.pharmacy().latitude(),
+                        hit.pharmacy().longitude(),
+                        hit.distanceMeters()))
+                .collect(Collectors.toList());
+    }
+
+    // 로컬 인덱스 → 카테고리 캐시 순으로 응답 (개수가 모자라도 있는 만큼 반환), 둘 다 없으면 SearchUnavailableException
+    public List<OutputDto> degradedSearch(String address, DocumentDto origin, double radius, int count, Timer.Sample searchSample) {
+        if (origin != null) {
+            List<OutputDto> localResults = findNearby(origin.getLatitude(), origin.getLongitude(), radius, count);
+            if (localResults.isEmpty()) {
+                List<DocumentDto> cached = kakaoCategorySearchService.findCachedDocuments(
+                        origin.getLatitude(), origin.getLongitude(), radius, count);
+                if (cached != null) {
+                    localResults = cached.stream().map(PharmacyOutputMapper::toOutputDto).collect(Collectors.toList());
+                }
+            }
+            if (!localResults.isEmpty()) {
+                searchMetrics.stopSearch(searchSample, "degraded");
+                return localResults;
+            }
+        }
+        searchMetrics.stopSearch(searchSample, "rejected");
+        throw new SearchUnavailableException("검색 요청이 많아 잠시 후 다시 시도해 주세요: " + address);
+    }
+}
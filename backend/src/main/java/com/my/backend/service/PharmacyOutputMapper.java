@@ -0,0 +1,55 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.OutputDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 검색 결과(카카오 DocumentDto 또는 로컬 인덱스 결과)를 프론트 응답용 OutputDto로 변환합니다.
+ */
+public final class PharmacyOutputMapper {
+
+    private static final String ROAD_VIEW_URL = "https://map.kakao.com/link/roadview/";
+    private static final String DIRECTION_URL = "https://map.kakao.com/link/to/";
+
+    private PharmacyOutputMapper() {
+    }
+
+    public static OutputDto toOutputDto(DocumentDto documentDto) {
+        return toOutputDto(documentDto.getPlaceName(), documentDto.getAddressName(),
+                documentDto.getLatitude(), documentDto.getLongitude(), documentDto.getDistance());
+    }
+
+    // URL 생성 및 좌표 포함
+    // 좌표 문자열은 한 번만 만들어 두 URL에 공유하고, String.format(Formatter/정규식 파싱) 대신 직접 포맷팅
+    public static OutputDto toOutputDto(String name, String address, double latitude, double longitude, double distance) {
+        String coordinates = new StringBuilder(40).append(latitude).append(',').append(longitude).toString();
+
+        String mapUrl = new StringBuilder(DIRECTION_URL.length() + name.length() + 1 + coordinates.length())
+                .append(DIRECTION_URL).append(name).append(',').append(coordinates)
+                .toString();
+        String roadUrl = ROAD_VIEW_URL.concat(coordinates);
+
+        return OutputDto.builder()
+                .pharmacyName(name)
+                .pharmacyAddress(address)
+                .directionURL(mapUrl)
+                .roadViewURL(roadUrl)
+                .distance(formatDistance(distance))
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    // String.format("%.2f m", distance)와 같은 결과
+    // Formatter와 같이 Double.toString 십진 표기를 HALF_UP으로 반올림 (Formatter/정규식 파싱만 생략)
+    static String formatDistance(double distance) {
+        // 음수/NaN/무한대는 거리로 나올 일이 없으므로 기존 포맷터로 처리
+        if (!(distance >= 0) || Double.isInfinite(distance)) {
+            return String.format("%.2f m", distance);
+        }
+        return BigDecimal.valueOf(distance).setScale(2, RoundingMode.HALF_UP).toPlainString().concat(" m");
+    }
+}
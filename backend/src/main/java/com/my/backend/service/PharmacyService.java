@@ -1,16 +1,29 @@
 package com.my.backend.service;
 
+import com.my.backend.client.KakaoQuotaExceededException;
 import com.my.backend.dto.DocumentDto;
 import com.my.backend.dto.OutputDto;
+import com.my.backend.dto.PharmacyPageDto;
+import com.my.backend.dto.SearchRequestDto;
 import com.my.backend.entity.Pharmacy;
+import com.my.backend.event.PharmacyChangedEvent;
+import com.my.backend.metrics.SearchMetrics;
+import com.my.backend.metrics.SearchMetrics.EmptyReason;
+import com.my.backend.metrics.SearchMetrics.Stage;
 import com.my.backend.repository.PharmacyRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,92 +32,196 @@ import java.util.stream.Collectors;
 public class PharmacyService {
 
     private final PharmacyRepository pharmacyRepository;
+    private final PharmacyUpsertWriter pharmacyUpsertWriter;
+    private final PharmacyWriteBehindQueue pharmacyWriteBehindQueue;
     private final KakaoAddressSearchService kakaoAddressSearchService;
     private final KakaoCategorySearchService kakaoCategorySearchService;
+    private final PharmacyLocalSearch pharmacyLocalSearch;
+    private final SearchMetrics searchMetrics;
+    private final SearchAdmissionLimiter searchAdmissionLimiter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 로컬 인덱스에서 이 개수 이상 찾으면 카카오 카테고리 검색을 생략
+    @Value("${app.search.local-min-results:3}")
+    private int localMinResults;
+
+    @Value("${app.search.default-count:3}")
+    private int defaultCount;
+
+    @Value("${app.search.max-count:45}")
+    private int maxCount;
+
+    // true면 검색 결과 저장을 write-behind 큐로 넘기고 바로 응답
+    @Value("${app.persistence.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
 
     // 카카오 API를 통해 약국을 검색하고, DB에 저장한 후, OutputDto로 가공하여 반환하는 메서드
-    @Transactional
+    // 카카오 호출 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션은 저장 단계(PharmacyUpsertWriter)에서만 사용
     public List<OutputDto> searchAndSavePharmacies(String address) {
+        SearchRequestDto request = new SearchRequestDto();
+        request.setAddress(address);
+        return searchAndSavePharmacies(request);
+    }
+
+    // distance(km)가 있으면 그 반경 안에서, count가 있으면 그 개수만큼 가까운 약국을 반환
+    // 과부하(동시 처리 한도 또는 카카오 호출 예산 초과) 시에는 캐시/로컬 인덱스로만 응답하고, 그것도 없으면 SearchUnavailableException
+    public List<OutputDto> searchAndSavePharmacies(SearchRequestDto request) {
+        String address = request.getAddress();
+        double radius = searchRadius(request.getDistance());
+        int count = request.getCount() == null ? defaultCount : Math.min(Math.max(request.getCount(), 1), maxCount);
+
+        Timer.Sample searchSample = searchMetrics.startSearch();
+
+        DocumentDto knownOrigin = knownOrigin(request);
+        SearchAdmissionLimiter.Permit permit = searchAdmissionLimiter.tryAcquire();
+        if (permit == null) {
+            log.warn("검색 동시 처리 한도 초과, 로컬 데이터로 응답: {}", address);
+            return pharmacyLocalSearch.degradedSearch(address, knownOrigin != null ? knownOrigin
+                    : kakaoAddressSearchService.getCachedAddressSearchResult(address), radius, count, searchSample);
+        }
+
+        DocumentDto[] origin = new DocumentDto[1];
+        boolean overloaded = false;
+        try {
+            return search(address, knownOrigin, radius, count, searchSample, origin);
+        } catch (KakaoQuotaExceededException e) {
+            overloaded = true;
+            log.warn("카카오 호출 예산 초과, 로컬 데이터로 응답: {}", address);
+            return pharmacyLocalSearch.degradedSearch(address, origin[0], radius, count, searchSample);
+        } catch (RuntimeException e) {
+            // 그 밖의 실패(DB 저장 오류 등)도 검색 시간 지표에 남김
+            searchMetrics.stopSearch(searchSample, "error");
+            throw e;
+        } finally {
+            permit.release(overloaded);
+        }
+    }
+
+    // 요청 거리(km, 없으면 null) → 검색 반경(m). 카카오 카테고리 검색 반경은 최대 20km
+    public static double searchRadius(Double distanceKm) {
+        return distanceKm == null
+                ? 1000 // 기본 1km 반경
+                : Math.min(Math.max(distanceKm * 1000, 1), 20000);
+    }
+
+    // 요청에 좌표가 있으면(자동완성에서 고른 주소) 그 좌표를 기준점으로, 없거나 범위를 벗어나면 null
+    public static DocumentDto knownOrigin(SearchRequestDto request) {
+        Double latitude = request.getLatitude();
+        Double longitude = request.getLongitude();
+        if (latitude == null || longitude == null
+                || !(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+            return null;
+        }
+        return DocumentDto.builder()
+                .addressName(request.getAddress())
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    // knownOrigin: 요청에 있던 기준 좌표 (있으면 주소 검색 생략)
+    // origin[0]: 주소 검색에 성공하면 기준 좌표를 담음 (카테고리 검색 단계에서 예산을 넘겼을 때 로컬 응답에 사용)
+    private List<OutputDto> search(String address, DocumentDto knownOrigin, double radius, int count,
+                                   Timer.Sample searchSample, DocumentDto[] origin) {
         // 1. 주소로 좌표 변환
-        DocumentDto addressDocument = kakaoAddressSearchService.getAddressSearchResult(address);
+        DocumentDto addressDocument = knownOrigin != null ? knownOrigin : searchMetrics.record(Stage.GEOCODE,
+                () -> kakaoAddressSearchService.getAddressSearchResult(address));
 
         if (addressDocument == null) {
             log.error("주소 검색 결과 없음: {}", address);
+            searchMetrics.emptyResult(EmptyReason.GEOCODE_MISS);
+            searchMetrics.stopSearch(searchSample, "empty");
             return List.of();
         }
+        origin[0] = addressDocument;
 
-        // 2. 좌표를 기준으로 카테고리 검색 (약국)
-        double radius = 1000; // 1km 반경
-        List<DocumentDto> pharmacyDocuments = kakaoCategorySearchService
-                .requestCategorySearchAndReturnDocuments(
+        // 2. DB에 저장된 약국으로 충분하면 메모리 인덱스에서 바로 응답 (카카오는 부족할 때만 호출)
+        int localNeeded = Math.max(localMinResults, count);
+        List<OutputDto> localResults = searchMetrics.record(Stage.LOCAL_LOOKUP, () -> findNearbyPharmacies(
+                addressDocument.getLatitude(), addressDocument.getLongitude(), radius, localNeeded));
+        if (localMinResults > 0 && localResults.size() >= localNeeded) {
+            log.debug("로컬 인덱스에서 주변 약국 응답: {} ({}건)", address, count);
+            searchMetrics.stopSearch(searchSample, "local");
+            return localResults.subList(0, count);
+        }
+
+        // 3. 좌표를 기준으로 카테고리 검색 (약국)
+        List<DocumentDto> pharmacyDocuments = searchMetrics.record(Stage.CATEGORY,
+                () -> kakaoCategorySearchService.requestCategorySearchAndReturnDocuments(
                         addressDocument.getLatitude(),
                         addressDocument.getLongitude(),
-                        radius);
+                        radius,
+                        count));
+
+        if (pharmacyDocuments.isEmpty()) {
+            searchMetrics.emptyResult(EmptyReason.NO_PHARMACIES);
+            searchMetrics.stopSearch(searchSample, "empty");
+            return List.of();
+        }
 
-        // 3. DocumentDto 리스트를 OutputDto로 변환하고, DB에 저장 (3개만 처리)
-        return pharmacyDocuments.stream()
-                .limit(3)
-                .map(this::convertToOutputDtoAndSave) // 변환 및 저장 로직 포함
-                .collect(Collectors.toList());
+        // 4. 상위 count개를 DB에 한 번에 저장(upsert)하고 OutputDto로 변환
+        //    (저장 시간은 PharmacyUpsertWriter에서 db_upsert 단계로 기록)
+        saveSearchResults(pharmacyDocuments);
+
+        List<OutputDto> results = searchMetrics.record(Stage.MAPPING, () -> pharmacyDocuments.stream()
+                .map(PharmacyOutputMapper::toOutputDto)
+                .collect(Collectors.toList()));
+        searchMetrics.stopSearch(searchSample, "kakao");
+        return results;
     }
 
-    // DocumentDto를 OutputDto로 변환하고, Pharmacy DB에 저장하는 통합 메서드
-    private OutputDto convertToOutputDtoAndSave(DocumentDto documentDto) {
-        // 1. DB에 저장할 Pharmacy 객체 생성 및 저장/업데이트
-        Optional<Pharmacy> existingPharmacy = pharmacyRepository.findByName(documentDto.getPlaceName());
-
-        Pharmacy pharmacy = Pharmacy.builder()
-                .name(documentDto.getPlaceName())
-                .address(documentDto.getAddressName())
-                .distance(documentDto.getDistance())
-                // ⭐ 좌표 저장
-                .latitude(documentDto.getLatitude())
-                .longitude(documentDto.getLongitude())
-                .build();
+    // 검색 결과를 (name, address) 기준 배치 upsert로 저장 (write-behind 모드면 큐에 넣고 바로 반환)
+    private void saveSearchResults(List<DocumentDto> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        List<Pharmacy> pharmacies = toPharmacies(documents);
+        if (writeBehindEnabled) {
+            pharmacyWriteBehindQueue.submit(pharmacies);
+        } else {
+            pharmacyUpsertWriter.write(pharmacies);
+        }
+    }
 
-        if (existingPharmacy.isPresent()) {
-            pharmacy = existingPharmacy.get();
-            // 동적으로 변하는 distance 값 업데이트
-            pharmacy.setDistance(documentDto.getDistance());
-            log.info("기존 약국 정보 사용 및 거리 업데이트: {}", pharmacy.getName());
+    // 검색 결과 → 저장할 엔티티 (같은 요청 안의 중복은 마지막 값으로 합침)
+    static List<Pharmacy> toPharmacies(List<DocumentDto> documents) {
+        Map<String, Pharmacy> pharmacies = new LinkedHashMap<>();
+        for (DocumentDto documentDto : documents) {
+            Pharmacy pharmacy = Pharmacy.builder()
+                    .name(documentDto.getPlaceName())
+                    .address(documentDto.getAddressName())
+                    // 동적으로 변하는 distance 값은 매번 갱신
+                    .distance(documentDto.getDistance())
+                    // ⭐ 좌표 저장
+                    .latitude(documentDto.getLatitude())
+                    .longitude(documentDto.getLongitude())
+                    .build();
+            pharmacies.put(pharmacy.getName() + '\n' + pharmacy.getAddress(), pharmacy);
         }
+        return List.copyOf(pharmacies.values());
+    }
 
-        // DB 저장 (새로 찾은 약국이거나, 기존 약국의 거리 업데이트)
-        pharmacyRepository.save(pharmacy);
-        log.info("약국 DB 저장/업데이트 완료: {}", pharmacy.getName());
-
-        // 2. OutputDto로 변환 (URL 생성 및 좌표 포함)
-        String ROAD_VIEW_URL = "https://map.kakao.com/link/roadview/";
-        String DIRECTION_URL = "https://map.kakao.com/link/to/";
-
-        String mapUrlParams = String.join(",",
-                documentDto.getPlaceName(),
-                String.valueOf(documentDto.getLatitude()),
-                String.valueOf(documentDto.getLongitude()));
-
-        String mapUrl = DIRECTION_URL + mapUrlParams;
-        String roadUrl = ROAD_VIEW_URL + documentDto.getLatitude() + "," + documentDto.getLongitude();
-
-        return OutputDto.builder()
-                .pharmacyName(documentDto.getPlaceName())
-                .pharmacyAddress(documentDto.getAddressName())
-                .directionURL(mapUrl)
-                .roadViewURL(roadUrl)
-                .distance(String.format("%.2f m", documentDto.getDistance()))
-                // ⭐ 추가: DocumentDto의 좌표를 OutputDto에 설정
-                .latitude(documentDto.getLatitude())
-                .longitude(documentDto.getLongitude())
-                .build();
+    // 메모리 공간 인덱스 기반 주변 약국 조회 (반경 m, 가까운 순)
+    public List<OutputDto> findNearbyPharmacies(double latitude, double longitude, double radius, int limit) {
+        return pharmacyLocalSearch.findNearby(latitude, longitude, radius, limit);
     }
 
     // --- CRUD 및 조회 로직 (Controller에서 사용) ---
 
     // 개별 약국 저장 (프론트에서 개별 저장 버튼 클릭 시)
+    // 검색 결과는 검색할 때 이미 (name, address)로 저장되므로, 같은 약국이 있으면 새로 넣지 않고 그 행을 갱신
+    // (동시에 같은 약국을 처음 저장하는 경쟁은 유니크 키 위반 → 컨트롤러에서 409)
     @Transactional
     public Pharmacy savePharmacy(Pharmacy pharmacy) {
         log.info("약국 저장: {}", pharmacy.getName());
         // 개별 저장 시에는 이미 좌표가 프론트에서 넘어온 것으로 가정
-        return pharmacyRepository.save(pharmacy);
+        if (pharmacy.getId() == null) {
+            pharmacyRepository.findByNameAndAddress(pharmacy.getName(), pharmacy.getAddress())
+                    .ifPresent(existing -> pharmacy.setId(existing.getId()));
+        }
+        Pharmacy saved = pharmacyRepository.save(pharmacy);
+        eventPublisher.publishEvent(PharmacyChangedEvent.upserted(List.of(saved)));
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -113,9 +230,39 @@ public class PharmacyService {
         return pharmacyRepository.findAll();
     }
 
+    // 키셋 페이지 조회: cursor(마지막으로 받은 id) 이후 size개
+    @Transactional(readOnly = true)
+    public PharmacyPageDto getPharmacyPage(Long cursor, int size) {
+        List<Pharmacy> items = pharmacyRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor == null ? 0L : cursor, PageRequest.of(0, size));
+        Long nextCursor = items.size() < size ? null : items.get(items.size() - 1).getId();
+        return PharmacyPageDto.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 전체 약국을 id 순 키셋 페이지(pageSize개)로 나눠 consumer로 넘김
+    // 트랜잭션 없이 페이지마다 짧게 조회하므로, consumer가 느린 클라이언트에 쓰는 동안 DB 커넥션을 붙잡지 않고
+    // 요청당 메모리 사용량도 페이지 하나로 일정합니다. (페이지 사이에 바뀐 행은 반영될 수도 있고 아닐 수도 있음)
+    public void streamAllPharmacies(int pageSize, Consumer<List<Pharmacy>> consumer) {
+        long cursor = 0L;
+        for (;;) {
+            List<Pharmacy> page = pharmacyRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, pageSize));
+            if (!page.isEmpty()) {
+                consumer.accept(page);
+            }
+            if (page.size() < pageSize) {
+                return;
+            }
+            cursor = page.get(page.size() - 1).getId();
+        }
+    }
+
     @Transactional
     public void deletePharmacy(Long id) {
         pharmacyRepository.deleteById(id);
+        eventPublisher.publishEvent(PharmacyChangedEvent.deleted(id));
         log.info("약국 삭제 완료: ID={}", id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,283 @@
+package com.my.backend.service;
+
+import com.my.backend.client.KakaoQuotaExceededException;
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.OutputDto;
+import com.my.backend.dto.SearchRequestDto;
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.metrics.SearchMetrics;
+import com.my.backend.metrics.SearchMetrics.EmptyReason;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기(논블로킹) 약국 검색. 결과를 모아서 반환하지 않고 찾는 대로 listener에 하나씩 넘깁니다.
+ * 주소 검색 → 카테고리 검색을 CompletableFuture로 이어 붙이므로 카카오 응답을 기다리는 동안 스레드를 점유하지 않고,
+ * 후속 단계는 카카오 HttpClient의 몇 개 스레드(app.kakao.client-threads)에서 실행됩니다.
+ * 응답 쓰기(listener 호출)는 블로킹이므로 별도의 응답 쓰기 스레드(app.search.stream.writer-threads)로 넘깁니다.
+ * 반경/개수 규칙, 로컬 인덱스 우선 응답, 동시 처리 한도(SearchAdmissionLimiter)와 과부하 시 로컬 데이터 응답은
+ * PharmacyService.searchAndSavePharmacies와 같습니다.
+ */
+@Service
+@Slf4j
+public class PharmacyStreamSearchService {
+
+    private final PharmacyLocalSearch pharmacyLocalSearch;
+    private final KakaoAddressSearchService kakaoAddressSearchService;
+    private final KakaoCategorySearchService kakaoCategorySearchService;
+    private final PharmacyWriteBehindQueue pharmacyWriteBehindQueue;
+    private final SearchMetrics searchMetrics;
+    private final SearchAdmissionLimiter searchAdmissionLimiter;
+    private final ExecutorService searchPersistExecutor;
+    private final ExecutorService searchStreamWriterExecutor;
+    private final int localMinResults;
+    private final int defaultCount;
+    private final int maxCount;
+
+    public PharmacyStreamSearchService(PharmacyLocalSearch pharmacyLocalSearch,
+                                       KakaoAddressSearchService kakaoAddressSearchService,
+                                       KakaoCategorySearchService kakaoCategorySearchService,
+                                       PharmacyWriteBehindQueue pharmacyWriteBehindQueue,
+                                       SearchMetrics searchMetrics,
+                                       SearchAdmissionLimiter searchAdmissionLimiter,
+                                       @Qualifier("searchPersistExecutor") ExecutorService searchPersistExecutor,
+                                       @Qualifier("searchStreamWriterExecutor") ExecutorService searchStreamWriterExecutor,
+                                       @Value("${app.search.local-min-results:3}") int localMinResults,
+                                       @Value("${app.search.default-count:3}") int defaultCount,
+                                       @Value("${app.search.max-count:45}") int maxCount) {
+        this.pharmacyLocalSearch = pharmacyLocalSearch;
+        this.kakaoAddressSearchService = kakaoAddressSearchService;
+        this.kakaoCategorySearchService = kakaoCategorySearchService;
+        this.pharmacyWriteBehindQueue = pharmacyWriteBehindQueue;
+        this.searchMetrics = searchMetrics;
+        this.searchAdmissionLimiter = searchAdmissionLimiter;
+        this.searchPersistExecutor = searchPersistExecutor;
+        this.searchStreamWriterExecutor = searchStreamWriterExecutor;
+        this.localMinResults = localMinResults;
+        this.defaultCount = defaultCount;
+        this.maxCount = maxCount;
+    }
+
+    public interface Listener {
+        // 주소 검색으로 찾은 기준 좌표
+        void onOrigin(DocumentDto origin);
+
+        void onResult(OutputDto result);
+    }
+
+    /**
+     * 검색을 시작하고 바로 반환합니다. 반환된 future는 보낸 결과 수로 완료됩니다. (주소 검색 실패 시 0)
+     * 과부하로 내줄 로컬 데이터도 없으면 SearchUnavailableException으로 실패합니다.
+     * cancelled가 true가 되면(클라이언트 연결 종료 등) 이후 결과는 listener에 넘기지 않고 카테고리 페이지도 더 요청하지 않습니다.
+     * listener는 항상 응답 쓰기 스레드(searchStreamWriterExecutor)에서 순서대로 호출되고, future도 그 스레드에서 완료됩니다.
+     * (SSE 쓰기는 블로킹이라 느린 클라이언트가 카카오 HttpClient 스레드를 붙잡지 않도록)
+     */
+    public CompletableFuture<Integer> search(SearchRequestDto request, Listener listener, AtomicBoolean cancelled) {
+        String address = request.getAddress();
+        double radius = PharmacyService.searchRadius(request.getDistance());
+        int count = request.getCount() == null ? defaultCount : Math.min(Math.max(request.getCount(), 1), maxCount);
+
+        Timer.Sample searchSample = searchMetrics.startSearch();
+        StreamWriter writer = new StreamWriter(listener, searchSample, cancelled);
+
+        // 자동완성에서 고른 주소처럼 좌표를 이미 알면 주소 검색 생략
+        DocumentDto knownOrigin = PharmacyService.knownOrigin(request);
+        SearchAdmissionLimiter.Permit permit = searchAdmissionLimiter.tryAcquire();
+        CompletableFuture<Integer> pipeline;
+        if (permit == null) {
+            log.warn("검색 동시 처리 한도 초과, 로컬 데이터로 응답: {}", address);
+            pipeline = degradedSearch(address, knownOrigin != null ? knownOrigin
+                    : kakaoAddressSearchService.getCachedAddressSearchResult(address), radius, count, searchSample, writer, false);
+        } else {
+            AtomicBoolean overloaded = new AtomicBoolean();
+            try {
+                pipeline = searchAndStream(address, knownOrigin, radius, count, searchSample, writer, cancelled, overloaded);
+            } catch (RuntimeException e) {
+                permit.release(false);
+                throw e;
+            }
+            // 카카오 단계가 끝나면(응답 쓰기를 기다리지 않고) 반납
+            pipeline = pipeline.whenComplete((sent, error) -> permit.release(overloaded.get()));
+        }
+        // 앞서 넘긴 결과를 모두 쓴 뒤 응답 쓰기 스레드에서 완료 (done/error 이벤트도 그 스레드에서 씀)
+        return pipeline.handle((sent, error) -> writer.drained().handle((ignored, writeError) -> {
+            Throwable failure = error != null ? error : writeError;
+            if (failure != null) {
+                throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+            }
+            return sent;
+        })).thenCompose(future -> future);
+    }
+
+    // overloaded: 카카오 호출 예산을 넘겨 로컬 데이터로 응답했으면 true (동시 처리 한도를 줄이도록)
+    private CompletableFuture<Integer> searchAndStream(String address, DocumentDto knownOrigin, double radius, int count,
+                                                      Timer.Sample searchSample, StreamWriter writer,
+                                                      AtomicBoolean cancelled, AtomicBoolean overloaded) {
+        CompletableFuture<DocumentDto> geocoded = knownOrigin != null
+                ? CompletableFuture.completedFuture(knownOrigin)
+                : kakaoAddressSearchService.getAddressSearchResultAsync(address);
+        return geocoded.handle((origin, error) -> {
+            if (error != null) {
+                if (!(unwrap(error) instanceof KakaoQuotaExceededException)) {
+                    searchMetrics.stopSearch(searchSample, "error");
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                }
+                // 주소 검색 단계에서 예산 초과: 그 사이 캐시에 들어온 좌표가 있으면 로컬 데이터로 응답
+                overloaded.set(true);
+                log.warn("카카오 호출 예산 초과, 로컬 데이터로 응답: {}", address);
+                return degradedSearch(address, kakaoAddressSearchService.getCachedAddressSearchResult(address),
+                        radius, count, searchSample, writer, false);
+            }
+            return searchAround(address, origin, radius, count, searchSample, writer, cancelled, overloaded);
+        }).thenCompose(future -> future);
+    }
+
+    private CompletableFuture<Integer> searchAround(String address, DocumentDto origin, double radius, int count,
+                                                   Timer.Sample searchSample, StreamWriter writer,
+                                                   AtomicBoolean cancelled, AtomicBoolean overloaded) {
+        if (origin == null) {
+            log.error("주소 검색 결과 없음: {}", address);
+            searchMetrics.emptyResult(EmptyReason.GEOCODE_MISS);
+            searchMetrics.stopSearch(searchSample, "empty");
+            return CompletableFuture.completedFuture(0);
+        }
+        if (cancelled.get()) {
+            searchMetrics.stopSearch(searchSample, "cancelled");
+            return CompletableFuture.completedFuture(0);
+        }
+        writer.origin(origin);
+
+        // 저장된 약국으로 충분하면 메모리 인덱스에서 바로 응답 (카카오는 부족할 때만 호출)
+        int localNeeded = Math.max(localMinResults, count);
+        List<OutputDto> localResults = pharmacyLocalSearch.findNearby(
+                origin.getLatitude(), origin.getLongitude(), radius, localNeeded);
+        if (localMinResults > 0 && localResults.size() >= localNeeded) {
+            localResults.subList(0, count).forEach(writer::result);
+            searchMetrics.stopSearch(searchSample, "local");
+            return CompletableFuture.completedFuture(writer.sent());
+        }
+
+        return kakaoCategorySearchService.requestCategorySearchAsync(
+                origin.getLatitude(), origin.getLongitude(), radius, count,
+                document -> writer.result(PharmacyOutputMapper.toOutputDto(document)), cancelled
+        ).handle((documents, error) -> {
+            if (error != null) {
+                if (!(unwrap(error) instanceof KakaoQuotaExceededException)) {
+                    searchMetrics.stopSearch(searchSample, "error");
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                }
+                overloaded.set(true);
+                log.warn("카카오 호출 예산 초과, 로컬 데이터로 응답: {}", address);
+                // 이미 보낸 결과가 있으면 거기까지, 없으면 로컬 인덱스 → 카테고리 캐시 순으로 응답
+                if (writer.sent() > 0) {
+                    searchMetrics.stopSearch(searchSample, "degraded");
+                    return CompletableFuture.completedFuture(writer.sent());
+                }
+                return degradedSearch(address, origin, radius, count, searchSample, writer, true);
+            }
+            if (documents.isEmpty()) {
+                searchMetrics.emptyResult(EmptyReason.NO_PHARMACIES);
+                searchMetrics.stopSearch(searchSample, "empty");
+                return CompletableFuture.completedFuture(0);
+            }
+            searchMetrics.stopSearch(searchSample, "kakao");
+            persist(documents);
+            return CompletableFuture.completedFuture(writer.sent());
+        }).thenCompose(future -> future);
+    }
+
+    // 카카오를 호출하지 않고 PharmacyService와 같은 규칙(로컬 인덱스 → 카테고리 캐시)으로 응답
+    // 내줄 데이터가 없으면 SearchUnavailableException으로 실패 (originSent: 기준 좌표를 이미 보냈는지)
+    private CompletableFuture<Integer> degradedSearch(String address, DocumentDto origin, double radius, int count,
+                                                      Timer.Sample searchSample, StreamWriter writer, boolean originSent) {
+        List<OutputDto> results;
+        try {
+            results = pharmacyLocalSearch.degradedSearch(address, origin, radius, count, searchSample);
+        } catch (SearchUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (!originSent) {
+            writer.origin(origin);
+        }
+        results.forEach(writer::result);
+        return CompletableFuture.completedFuture(writer.sent());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * 한 검색의 listener 호출을 응답 쓰기 스레드로 넘기는 순서 보장 큐.
+     * 이전 쓰기가 끝난 뒤 다음 쓰기를 실행하도록 future를 이어 붙이므로 origin → result 순서가 유지됩니다.
+     * 쓰기 풀의 대기열이 가득 차면 이후 쓰기는 실패로 끝나고 검색은 error로 완료됩니다.
+     */
+    private final class StreamWriter {
+        private final Listener listener;
+        private final Timer.Sample searchSample;
+        private final AtomicBoolean cancelled;
+        private final AtomicInteger sent = new AtomicInteger();
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        private StreamWriter(Listener listener, Timer.Sample searchSample, AtomicBoolean cancelled) {
+            this.listener = listener;
+            this.searchSample = searchSample;
+            this.cancelled = cancelled;
+        }
+
+        void origin(DocumentDto origin) {
+            enqueue(() -> listener.onOrigin(origin));
+        }
+
+        void result(OutputDto result) {
+            if (cancelled.get()) {
+                return;
+            }
+            boolean first = sent.incrementAndGet() == 1;
+            enqueue(() -> {
+                listener.onResult(result);
+                if (first) {
+                    searchMetrics.firstResult(searchSample);
+                }
+            });
+        }
+
+        int sent() {
+            return sent.get();
+        }
+
+        // 지금까지 넘긴 쓰기가 모두 끝나면 응답 쓰기 스레드에서 완료
+        synchronized CompletableFuture<Void> drained() {
+            return tail.thenRunAsync(() -> {
+            }, searchStreamWriterExecutor);
+        }
+
+        private synchronized void enqueue(Runnable write) {
+            tail = tail.thenRunAsync(() -> {
+                if (!cancelled.get()) {
+                    write.run();
+                }
+            }, searchStreamWriterExecutor);
+        }
+    }
+
+    // 응답을 다 보낸 뒤 저장 스레드에서 write-behind 큐에 넣음 (HttpClient 스레드에서 DB를 기다리지 않음)
+    private void persist(List<DocumentDto> documents) {
+        List<Pharmacy> pharmacies = PharmacyService.toPharmacies(documents);
+        CompletableFuture.runAsync(() -> pharmacyWriteBehindQueue.submit(pharmacies), searchPersistExecutor)
+                .exceptionally(error -> {
+                    log.error("스트리밍 검색 결과 저장 실패: {}건", pharmacies.size(), error);
+                    return null;
+                });
+    }
+}
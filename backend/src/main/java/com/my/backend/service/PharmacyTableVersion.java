@@ -0,0 +1,45 @@
+package com.my.backend.service;
+
+import com.my.backend.event.PharmacyChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * pharmacy 테이블 버전 카운터. 약국이 저장/삭제될 때마다(커밋 후) 1씩 올라갑니다.
+ * 목록 API는 이 값으로 ETag를 만들어, 바뀐 것이 없으면 테이블 조회·직렬화 없이 304로 응답합니다.
+ * 카운터는 인스턴스 메모리에만 있으므로 재시작하면 ETag 앞부분(시작 시각)이 바뀌어 이전 ETag는 모두 무효가 됩니다.
+ * 다른 인스턴스의 변경은 공유 캐시가 켜져 있을 때 PharmacyChangeBroadcaster가 전달해 주는 것만 반영됩니다.
+ * (인스턴스를 거치지 않고 DB를 직접 바꾼 경우는 반영되지 않음)
+ */
+@Component
+public class PharmacyTableVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPharmacyChanged(PharmacyChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    // 강한 ETag: "시작시각-버전[-qualifier...]" (같은 버전이라도 페이지별로 다른 표현이면 qualifier로 구분)
+    // 응답 본문을 읽기 전에 호출해야 ETag 버전이 본문보다 최신이 되는 일이 없음
+    public String etag(Object... qualifiers) {
+        return etagAt(version.get(), qualifiers);
+    }
+
+    // 이 카운터가 아닌 다른 버전(예: 읽기 모델 스냅샷 버전)으로 만든 ETag (qualifier로 출처를 구분해야 함)
+    public String etagAt(long version, Object... qualifiers) {
+        StringBuilder etag = new StringBuilder(32).append('"').append(epoch).append('-').append(version);
+        for (Object qualifier : qualifiers) {
+            etag.append('-').append(qualifier);
+        }
+        return etag.append('"').toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.my.backend.service;
+
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.event.PharmacyChangedEvent;
+import com.my.backend.metrics.SearchMetrics;
+import com.my.backend.metrics.SearchMetrics.Stage;
+import com.my.backend.repository.PharmacyJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 검색 결과 약국을 (name, address) 기준 배치 upsert로 저장하고 PharmacyChangedEvent를 발행합니다.
+ * 동기 저장과 write-behind 큐의 백그라운드 저장이 같은 경로를 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PharmacyUpsertWriter {
+
+    private final PharmacyJdbcRepository pharmacyJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchMetrics searchMetrics;
+
+    // DB 커넥션은 이 메서드 동안만 사용 (카카오 호출 구간에는 트랜잭션을 잡지 않음)
+    @Transactional
+    public List<Pharmacy> write(List<Pharmacy> pharmacies) {
+        List<Pharmacy> saved = searchMetrics.record(Stage.DB_UPSERT, () -> pharmacyJdbcRepository.upsertAll(pharmacies));
+        eventPublisher.publishEvent(PharmacyChangedEvent.upserted(saved));
+        log.debug("약국 DB 저장/업데이트 완료: {}건", saved.size());
+        return saved;
+    }
+}
@@ -0,0 +1,191 @@
+package com.my.backend.service;
+
+import com.my.backend.entity.Pharmacy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 결과 저장을 요청 스레드에서 분리하는 write-behind 큐.
+ * 백그라운드 스레드가 큐를 모아서(같은 약국은 마지막 값으로 합쳐) 배치로 저장합니다.
+ * - 용량이 찬 상태가 offer-timeout 동안 이어지면 호출 스레드에서 직접 저장 (backpressure)
+ * - 종료 시 남은 항목을 모두 저장한 뒤 멈춤
+ */
+@Component
+@Slf4j
+public class PharmacyWriteBehindQueue implements SmartLifecycle {
+
+    private final PharmacyUpsertWriter pharmacyUpsertWriter;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final long flushIntervalMillis;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    // 마지막 배치에서 가장 오래 기다린 항목의 대기 시간 (ms)
+    private volatile long lastBatchLagMillis;
+
+    public PharmacyWriteBehindQueue(PharmacyUpsertWriter pharmacyUpsertWriter,
+                                    @Value("${app.persistence.write-behind.capacity:10000}") int capacity,
+                                    @Value("${app.persistence.write-behind.batch-size:500}") int batchSize,
+                                    @Value("${app.persistence.write-behind.offer-timeout-ms:50}") long offerTimeoutMillis,
+                                    @Value("${app.persistence.write-behind.flush-interval-ms:200}") long flushIntervalMillis) {
+        this.pharmacyUpsertWriter = pharmacyUpsertWriter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public void submit(List<Pharmacy> pharmacies) {
+        List<Pharmacy> overflow = new ArrayList<>();
+        for (Pharmacy pharmacy : pharmacies) {
+            if (!running || !offer(new PendingWrite(pharmacy, System.nanoTime()))) {
+                overflow.add(pharmacy);
+            }
+        }
+        if (!running) {
+            // 종료 직전에 들어간 항목이 큐에 남지 않도록 직접 저장
+            List<PendingWrite> late = new ArrayList<>();
+            queue.drainTo(late);
+            late.forEach(pendingWrite -> overflow.add(pendingWrite.pharmacy()));
+        }
+        if (!overflow.isEmpty()) {
+            // 큐가 가득 찼거나 종료 중이면 호출 스레드에서 직접 저장
+            callerRunsCount.addAndGet(overflow.size());
+            pharmacyUpsertWriter.write(overflow);
+        }
+    }
+
+    private boolean offer(PendingWrite pendingWrite) {
+        try {
+            if (queue.offer(pendingWrite, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                enqueuedCount.incrementAndGet();
+                return true;
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                PendingWrite first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    List<PendingWrite> batch = new ArrayList<>(batchSize);
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("write-behind 저장 루프 에러: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        // 같은 (이름, 주소)는 마지막 값만 저장
+        Map<String, Pharmacy> coalesced = new LinkedHashMap<>();
+        long oldestEnqueuedAt = batch.get(0).enqueuedAtNanos();
+        for (PendingWrite pendingWrite : batch) {
+            Pharmacy pharmacy = pendingWrite.pharmacy();
+            coalesced.put(pharmacy.getName() + '\n' + pharmacy.getAddress(), pharmacy);
+            oldestEnqueuedAt = Math.min(oldestEnqueuedAt, pendingWrite.enqueuedAtNanos());
+        }
+        try {
+            pharmacyUpsertWriter.write(List.copyOf(coalesced.values()));
+            writtenCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            log.error("write-behind 배치 저장 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+        lastBatchLagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldestEnqueuedAt);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "pharmacy-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(flushIntervalMillis * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 시 남은 항목 저장
+        List<PendingWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("write-behind 큐 종료: 남은 {}건 저장", remaining.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    // 큐에서 가장 오래 기다리고 있는 항목의 대기 시간 (ms)
+    public long getOldestPendingAgeMillis() {
+        PendingWrite head = queue.peek();
+        return head == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - head.enqueuedAtNanos());
+    }
+
+    public long getLastBatchLagMillis() {
+        return lastBatchLagMillis;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRunsCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private record PendingWrite(Pharmacy pharmacy, long enqueuedAtNanos) {
+    }
+}
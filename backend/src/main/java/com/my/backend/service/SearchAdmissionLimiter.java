@@ -0,0 +1,100 @@
+package com.my.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 동시 처리 수 제한 (AIMD).
+ * 처리 중인 검색이 limit개면 새 검색은 기다리지 않고 바로 거절되고(tryAcquire가 null), 호출하는 쪽이 로컬 데이터로 응답하거나 503을 돌려줍니다.
+ * limit은 관측한 지연으로 조절합니다.
+ * - 검색이 latency-target-ms 안에 끝나고 limit의 절반 이상을 쓰고 있으면 +1 (additive increase)
+ * - 목표 지연을 넘기거나 카카오 호출 예산 초과로 실패하면 x backoff-ratio (multiplicative decrease)
+ * 과부하 시 Tomcat 스레드가 카카오 응답을 기다리며 쌓이는 대신 초과분을 빨리 돌려보내 p99 지연이 목표 근처에 머물게 합니다.
+ */
+@Component
+public class SearchAdmissionLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final Counter rejected;
+
+    // this로 보호
+    private double limit;
+    private int inFlight;
+
+    public SearchAdmissionLimiter(MeterRegistry meterRegistry,
+                                  @Value("${app.search.admission.initial-limit:20}") int initialLimit,
+                                  @Value("${app.search.admission.min-limit:4}") int minLimit,
+                                  @Value("${app.search.admission.max-limit:200}") int maxLimit,
+                                  @Value("${app.search.admission.latency-target-ms:1000}") long latencyTargetMillis,
+                                  @Value("${app.search.admission.backoff-ratio:0.9}") double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetMillis * 1_000_000L;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+        this.rejected = Counter.builder("pharmacy.search.admission.rejected")
+                .description("동시 처리 한도 초과로 바로 거절된 검색 수")
+                .register(meterRegistry);
+        Gauge.builder("pharmacy.search.admission.limit", this, SearchAdmissionLimiter::getLimit)
+                .description("현재 검색 동시 처리 한도")
+                .register(meterRegistry);
+        Gauge.builder("pharmacy.search.admission.in_flight", this, SearchAdmissionLimiter::getInFlight)
+                .description("처리 중인 검색 수")
+                .register(meterRegistry);
+    }
+
+    // 한도 안이면 Permit, 아니면 null (끝나면 반드시 Permit.release 호출)
+    public Permit tryAcquire() {
+        synchronized (this) {
+            if (inFlight >= (int) limit) {
+                rejected.increment();
+                return null;
+            }
+            inFlight++;
+        }
+        return new Permit(System.nanoTime());
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private synchronized void onComplete(long latencyNanos, boolean overloaded) {
+        int used = inFlight;
+        inFlight--;
+        if (overloaded || latencyNanos > latencyTargetNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (used * 2 >= limit) {
+            // 한도를 충분히 쓰고 있을 때만 늘림 (한가할 때 한도가 계속 커지지 않도록)
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public final class Permit {
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        // overloaded: 카카오 호출 예산 초과 등 하위 시스템 과부하로 실패한 경우
+        public void release(boolean overloaded) {
+            if (released) {
+                return;
+            }
+            released = true;
+            onComplete(System.nanoTime() - startNanos, overloaded);
+        }
+    }
+}
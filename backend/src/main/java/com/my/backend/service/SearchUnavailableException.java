@@ -0,0 +1,12 @@
+package com.my.backend.service;
+
+/**
+ * 과부하(검색 동시 처리 한도 또는 카카오 호출 예산 초과)로 검색을 처리할 수 없고, 대신 내줄 로컬 데이터도 없는 경우.
+ * 컨트롤러에서 503 + Retry-After로 응답합니다.
+ */
+public class SearchUnavailableException extends RuntimeException {
+
+    public SearchUnavailableException(String message) {
+        super(message);
+    }
+}
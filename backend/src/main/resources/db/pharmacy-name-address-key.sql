@@ -0,0 +1,23 @@
+-- pharmacy (name, address) 유니크 키 마이그레이션 (MySQL, prod 프로필 시작 시 Hibernate보다 먼저 실행)
+-- ddl-auto=validate(fast-start)는 유니크 키를 만들지도 검사하지도 않으므로, 키가 없으면 upsert가 중복 행만 쌓음
+-- 키가 아직 없을 때만: 같은 (name, address) 중 id가 가장 작은 행만 남기고 키 추가 (이미 있으면 아무것도 하지 않음)
+-- 테이블이 아직 없으면(첫 배포) 건너뛰고 Hibernate update가 키와 함께 만듦
+SET @has_table := (SELECT COUNT(*) FROM information_schema.tables
+                   WHERE table_schema = DATABASE() AND table_name = 'pharmacy');
+SET @has_key := (SELECT COUNT(*) FROM information_schema.statistics
+                 WHERE table_schema = DATABASE() AND table_name = 'pharmacy' AND index_name = 'uk_pharmacy_name_address');
+SET @migrate := @has_table > 0 AND @has_key = 0;
+
+SET @ddl := IF(@migrate,
+               'DELETE p FROM pharmacy p JOIN pharmacy kept ON kept.name = p.name AND kept.address = p.address AND kept.id < p.id',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl := IF(@migrate,
+               'ALTER TABLE pharmacy ADD CONSTRAINT uk_pharmacy_name_address UNIQUE (name, address)',
+               'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
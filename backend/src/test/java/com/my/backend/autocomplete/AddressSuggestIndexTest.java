@@ -0,0 +1,55 @@
+package com.my.backend.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AddressSuggestIndexTest {
+
+	private final AddressSuggestIndex index = AddressSuggestIndex.build(List.of(
+			entry("서울 강남구 테헤란로 405", 1),
+			entry("서울 강남구 역삼동 737", 5),
+			entry("서울 강북구 도봉로 10", 3),
+			entry("부산 해운대구 우동 1411", 2)), 100, 6);
+
+	@Test
+	void matchesUnfinishedSyllablesByJamo() {
+		// "강나"는 "강남"의 앞부분 (ㄱㅏㅇㄴㅏ), 가중치 큰 순
+		assertThat(addresses(index.suggest("강나", 10)))
+				.containsExactly("서울 강남구 역삼동 737", "서울 강남구 테헤란로 405");
+		assertThat(addresses(index.suggest("서울 강", 10)))
+				.containsExactly("서울 강남구 역삼동 737", "서울 강북구 도봉로 10", "서울 강남구 테헤란로 405");
+	}
+
+	@Test
+	void matchesFromAnyTokenAndIgnoresSpacing() {
+		assertThat(addresses(index.suggest("테헤란로4", 10))).containsExactly("서울 강남구 테헤란로 405");
+		assertThat(addresses(index.suggest("해운대", 10))).containsExactly("부산 해운대구 우동 1411");
+		assertThat(index.suggest("대구", 10)).isEmpty();
+		assertThat(index.suggest("  ", 10)).isEmpty();
+	}
+
+	@Test
+	void wideRangesStopAfterLimitInWeightOrder() {
+		List<AddressSuggestIndex.Entry> entries = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			entries.add(entry("경기 성남시 분당구 " + i, i));
+		}
+		AddressSuggestIndex large = AddressSuggestIndex.build(entries, 3000, 6);
+
+		assertThat(large.size()).isEqualTo(3000);
+		assertThat(addresses(large.suggest("ㄱ", 3)))
+				.containsExactly("경기 성남시 분당구 4999", "경기 성남시 분당구 4998", "경기 성남시 분당구 4997");
+	}
+
+	private static AddressSuggestIndex.Entry entry(String address, long weight) {
+		return new AddressSuggestIndex.Entry(address, 37.5, 127.0, weight);
+	}
+
+	private static List<String> addresses(List<AddressSuggestIndex.Entry> entries) {
+		return entries.stream().map(AddressSuggestIndex.Entry::address).toList();
+	}
+}
@@ -0,0 +1,46 @@
+package com.my.backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCacheTest {
+
+	private final AtomicLong now = new AtomicLong();
+
+	@Test
+	void expiresEntriesAfterTtl() {
+		LocalCache<String, String> cache = new LocalCache<>(10, now::get);
+		cache.put("강남역", "A", 1000);
+
+		assertThat(cache.get("강남역")).isEqualTo("A");
+
+		now.addAndGet(1000 * 1_000_000L);
+		assertThat(cache.get("강남역")).isNull();
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedWhenFull() {
+		LocalCache<String, String> cache = new LocalCache<>(2, now::get);
+		cache.put("a", "1", 1000);
+		cache.put("b", "2", 1000);
+		cache.get("a");
+		cache.put("c", "3", 1000);
+
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isEqualTo("1");
+		assertThat(cache.get("c")).isEqualTo("3");
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void normalizesAddressWhitespace() {
+		assertThat(GeocodeCache.normalize("  서울 강남구   테헤란로\t405 "))
+				.isEqualTo("서울 강남구 테헤란로 405");
+	}
+}
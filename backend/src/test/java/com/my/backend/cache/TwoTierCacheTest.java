@@ -0,0 +1,98 @@
+package com.my.backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+
+	// 두 인스턴스가 같은 공유 저장소를 쓰는 상황
+	private final InMemorySharedCacheStore shared = new InMemorySharedCacheStore();
+
+	@Test
+	void sharesValuesBetweenInstances() {
+		TwoTierCache<String, String> nodeA = newCache();
+		TwoTierCache<String, String> nodeB = newCache();
+
+		nodeA.put("강남역", "37.49,127.02");
+
+		assertThat(nodeB.get("강남역")).isEqualTo("37.49,127.02");
+		assertThat(nodeB.getSharedHitCount()).isEqualTo(1);
+		// 공유 캐시에서 읽은 값은 L1에도 들어감
+		assertThat(nodeB.getLocalCache().get("강남역")).isEqualTo("37.49,127.02");
+		assertThat(nodeB.get("역삼역")).isNull();
+		assertThat(nodeB.getSharedMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void invalidationClearsEveryInstance() {
+		TwoTierCache<String, String> nodeA = newCache();
+		TwoTierCache<String, String> nodeB = newCache();
+		nodeA.put("강남역", "old");
+		assertThat(nodeB.get("강남역")).isEqualTo("old");
+
+		nodeA.invalidateAll();
+
+		assertThat(nodeB.getLocalCache().size()).isZero();
+		assertThat(nodeB.get("강남역")).isNull();
+		// 무효화 뒤에 시작한 인스턴스도 새 세대를 읽음
+		nodeB.put("강남역", "new");
+		assertThat(newCache().get("강남역")).isEqualTo("new");
+	}
+
+	@Test
+	void worksWithoutSharedStore() {
+		TwoTierCache<String, String> cache = new TwoTierCache<>("test", 10, value -> 1000, SharedCacheStore.none(),
+				Function.identity(), Function.identity(), Function.identity());
+		cache.put("강남역", "A");
+
+		assertThat(cache.get("강남역")).isEqualTo("A");
+		cache.invalidateAll();
+		assertThat(cache.get("강남역")).isNull();
+		assertThat(cache.getSharedMissCount()).isZero();
+	}
+
+	@Test
+	void skipsSharedStoreForAWhileAfterFailure() {
+		long[] now = {0};
+		int[] calls = {0};
+		boolean[] down = {false};
+		SharedCacheStore flaky = new InMemorySharedCacheStore() {
+			@Override
+			public String get(String key) {
+				calls[0]++;
+				if (down[0]) {
+					throw new IllegalStateException("Redis 연결 timeout");
+				}
+				return super.get(key);
+			}
+		};
+		TwoTierCache<String, String> cache = new TwoTierCache<>("test", 10, value -> 60_000,
+				new CircuitBreakingSharedCacheStore(flaky, 5_000, () -> now[0]),
+				Function.identity(), Function.identity(), Function.identity());
+		calls[0] = 0;
+		down[0] = true;
+
+		// 첫 실패 뒤 retry-after 동안은 L2를 부르지 않음
+		assertThat(cache.get("강남역")).isNull();
+		assertThat(cache.get("역삼역")).isNull();
+		assertThat(cache.get("선릉역")).isNull();
+		assertThat(calls[0]).isEqualTo(1);
+		assertThat(cache.getSharedErrorCount()).isEqualTo(3);
+
+		// 지나면 한 번 다시 확인하고, 복구되었으면 계속 사용
+		now[0] += 6_000_000_000L;
+		down[0] = false;
+		assertThat(cache.get("강남역")).isNull();
+		assertThat(cache.get("역삼역")).isNull();
+		assertThat(calls[0]).isEqualTo(3);
+		assertThat(cache.getSharedMissCount()).isEqualTo(2);
+	}
+
+	private TwoTierCache<String, String> newCache() {
+		return new TwoTierCache<>("test", 10, value -> 60_000, shared,
+				Function.identity(), Function.identity(), Function.identity());
+	}
+}
@@ -0,0 +1,125 @@
+package com.my.backend.client;
+
+import com.my.backend.dto.KakaoApiResponseDto;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoApiClientTest {
+
+	private static final String BODY = "{\"documents\":[{\"place_name\":\"테스트약국\",\"address_name\":\"서울 강남구\","
+			+ "\"x\":\"127.0\",\"y\":\"37.5\",\"distance\":\"120\"}],\"meta\":{\"total_count\":1}}";
+
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+	private volatile long responseDelayMillis;
+	private volatile String lastAuthorization;
+
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+	private KakaoApiClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		serverExecutor = Executors.newCachedThreadPool();
+		server.setExecutor(serverExecutor);
+		server.createContext("/v2/local/search/address.json", exchange -> {
+			requestCount.incrementAndGet();
+			lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+			sleep(responseDelayMillis);
+			boolean fail = failuresBeforeSuccess.getAndDecrement() > 0;
+			byte[] body = (fail ? "{}" : BODY).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+			exchange.sendResponseHeaders(fail ? 503 : 200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		client = new KakaoApiClient(new KakaoAsyncApiClient(HttpClient.newHttpClient(), meterRegistry,
+				new KakaoRateLimiter(meterRegistry, 0, 0), "test-key", "http://127.0.0.1:" + server.getAddress().getPort(),
+				3000, 2, 1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	@Test
+	void retriesServerErrorsAndSendsAuthorization() {
+		failuresBeforeSuccess.set(2);
+
+		KakaoApiResponseDto response = client.get(addressUri("강남역"));
+
+		assertThat(response).isNotNull();
+		assertThat(response.getDocumentList()).hasSize(1);
+		assertThat(response.getDocumentList().get(0).getPlaceName()).isEqualTo("테스트약국");
+		assertThat(requestCount.get()).isEqualTo(3);
+		assertThat(lastAuthorization).isEqualTo("KakaoAK test-key");
+	}
+
+	@Test
+	void returnsNullWhenRetriesAreExhausted() {
+		failuresBeforeSuccess.set(10);
+
+		assertThat(client.get(addressUri("강남역"))).isNull();
+		assertThat(requestCount.get()).isEqualTo(3);
+	}
+
+	@Test
+	void coalescesConcurrentIdenticalRequests() {
+		responseDelayMillis = 300;
+		URI uri = addressUri("강남역");
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<CompletableFuture<KakaoApiResponseDto>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(CompletableFuture.supplyAsync(() -> client.get(uri), executor));
+			}
+			futures.forEach(future -> assertThat(future.join()).isNotNull());
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(requestCount.get()).isEqualTo(1);
+	}
+
+	private URI addressUri(String query) {
+		return client.uriBuilder("/v2/local/search/address.json")
+				.queryParam("query", query)
+				.build()
+				.encode()
+				.toUri();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
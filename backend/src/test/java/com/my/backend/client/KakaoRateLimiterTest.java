@@ -0,0 +1,24 @@
+package com.my.backend.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoRateLimiterTest {
+
+	@Test
+	void allowsBurstThenThrottles() {
+		KakaoRateLimiter limiter = new KakaoRateLimiter(new SimpleMeterRegistry(), 0.001, 3);
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+
+		KakaoRateLimiter unlimited = new KakaoRateLimiter(new SimpleMeterRegistry(), 0, 0);
+		for (int i = 0; i < 1000; i++) {
+			assertThat(unlimited.tryAcquire()).isTrue();
+		}
+	}
+}
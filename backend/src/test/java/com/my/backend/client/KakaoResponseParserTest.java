@@ -0,0 +1,49 @@
+package com.my.backend.client;
+
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.KakaoApiResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoResponseParserTest {
+
+	private static final String BODY = "{\"documents\":["
+			+ "{\"place_name\":\"가나약국\",\"address_name\":\"서울 강남구 역삼동 1\",\"road_address\":{\"zone_no\":\"06234\"},"
+			+ "\"phone\":\"02-000-0000\",\"x\":\"127.0276\",\"y\":\"37.4979\",\"distance\":\"120\"},"
+			+ "{\"place_name\":\"다라약국\",\"address_name\":\"서울 강남구 역삼동 2\",\"x\":\"127.0280\",\"y\":\"37.4985\",\"distance\":\"180\"},"
+			+ "{\"place_name\":\"마바약국\",\"address_name\":\"서울 강남구 역삼동 3\",\"x\":\"127.0290\",\"y\":\"37.4990\",\"distance\":\"\"}"
+			+ "],\"meta\":{\"total_count\":3,\"pageable_count\":3,\"is_end\":true,\"same_name\":null}}";
+
+	@Test
+	void readsOnlyUsedFieldsAndMeta() throws IOException {
+		KakaoApiResponseDto response = KakaoResponseParser.parse(bytes(BODY), Integer.MAX_VALUE);
+
+		assertThat(response.getDocumentList()).hasSize(3);
+		DocumentDto first = response.getDocumentList().get(0);
+		assertThat(first.getPlaceName()).isEqualTo("가나약국");
+		assertThat(first.getAddressName()).isEqualTo("서울 강남구 역삼동 1");
+		assertThat(first.getLongitude()).isEqualTo(127.0276);
+		assertThat(first.getLatitude()).isEqualTo(37.4979);
+		assertThat(first.getDistance()).isEqualTo(120.0);
+		// 주소 검색처럼 distance가 빈 문자열이면 0
+		assertThat(response.getDocumentList().get(2).getDistance()).isZero();
+		assertThat(response.getMetaDto().getTotalCount()).isEqualTo(3);
+		assertThat(response.getMetaDto().getIsEnd()).isTrue();
+	}
+
+	@Test
+	void stopsCollectingAfterMaxDocumentsButKeepsMeta() throws IOException {
+		KakaoApiResponseDto response = KakaoResponseParser.parse(bytes(BODY), 1);
+
+		assertThat(response.getDocumentList()).extracting(DocumentDto::getPlaceName).containsExactly("가나약국");
+		assertThat(response.getMetaDto().getIsEnd()).isTrue();
+	}
+
+	private static byte[] bytes(String body) {
+		return body.getBytes(StandardCharsets.UTF_8);
+	}
+}
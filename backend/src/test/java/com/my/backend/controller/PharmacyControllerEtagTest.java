@@ -0,0 +1,97 @@
+package com.my.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.service.PharmacyUpsertWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"common", "test"})
+class PharmacyControllerEtagTest {
+
+	private static final List<String> LIST_PATHS = List.of("/api/pharmacies", "/api/pharmacies/page", "/api/pharmacies/stream");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PharmacyUpsertWriter pharmacyUpsertWriter;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void answersNotModifiedUntilPharmaciesChange() throws Exception {
+		Map<String, String> etags = currentEtags();
+
+		// 바뀐 것이 없으면 304
+		for (String path : LIST_PATHS) {
+			mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etags.get(path)))
+					.andExpect(status().isNotModified())
+					.andExpect(header().string(HttpHeaders.ETAG, etags.get(path)));
+		}
+
+		// 저장
+		String created = mockMvc.perform(post("/api/pharmacies")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\":\"ETag약국\",\"address\":\"서울 종로구 종로 1\",\"distance\":0,"
+								+ "\"latitude\":37.57,\"longitude\":126.98}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		etags = assertChangedSince(etags);
+
+		// 검색 결과 upsert
+		pharmacyUpsertWriter.write(List.of(Pharmacy.builder()
+				.name("ETag약국").address("서울 종로구 종로 1").distance(5.0).latitude(37.5701).longitude(126.9801).build()));
+		etags = assertChangedSince(etags);
+
+		// 삭제
+		long id = objectMapper.readTree(created).get("id").asLong();
+		mockMvc.perform(delete("/api/pharmacies/" + id)).andExpect(status().isNoContent());
+		assertChangedSince(etags);
+	}
+
+	// 변경 전 ETag로 재검증하면 200과 새 ETag
+	private Map<String, String> assertChangedSince(Map<String, String> previous) throws Exception {
+		Map<String, String> etags = new HashMap<>();
+		for (String path : LIST_PATHS) {
+			String etag = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, previous.get(path)))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			assertThat(etag).isNotNull().isNotEqualTo(previous.get(path));
+			etags.put(path, etag);
+		}
+		return etags;
+	}
+
+	private Map<String, String> currentEtags() throws Exception {
+		Map<String, String> etags = new HashMap<>();
+		for (String path : LIST_PATHS) {
+			String etag = mockMvc.perform(get(path))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+			assertThat(etag).isNotNull();
+			etags.put(path, etag);
+		}
+		return etags;
+	}
+}
@@ -0,0 +1,65 @@
+package com.my.backend.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PharmacyPointSetTest {
+
+	@Test
+	void gridMatchesBruteForceHaversine() {
+		Random random = new Random(7);
+		int size = 2000;
+		double[] latitudes = new double[size];
+		double[] longitudes = new double[size];
+		for (int i = 0; i < size; i++) {
+			latitudes[i] = 37.45 + random.nextDouble() * 0.1;
+			longitudes[i] = 126.95 + random.nextDouble() * 0.1;
+		}
+		PharmacyPointSet points = PharmacyPointSet.of(latitudes, longitudes, size, 0.003);
+		// 약국이 있는 곳보다 넓게 잡아서 바깥쪽(최근접 상한 밖) 셀도 확인
+		CoverageGrid grid = CoverageGrid.of(37.40, 126.90, 37.60, 127.10, 400);
+		int[] nearest = new int[(int) grid.cells()];
+		int[] counts = new int[(int) grid.cells()];
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			points.measureRows(grid, 0, grid.rows(), 300, 3000, nearest, counts, pool);
+		} finally {
+			pool.shutdown();
+		}
+
+		boolean sawNoPharmacy = false;
+		for (int row = 0; row < grid.rows(); row++) {
+			for (int col = 0; col < grid.cols(); col++) {
+				double best = Double.POSITIVE_INFINITY;
+				int count = 0;
+				for (int i = 0; i < size; i++) {
+					double distance = GeoUtils.haversineMeters(grid.latitude(row), grid.longitude(col), latitudes[i], longitudes[i]);
+					best = Math.min(best, distance);
+					count += distance <= 300 ? 1 : 0;
+				}
+				int index = row * grid.cols() + col;
+				assertThat(nearest[index]).isEqualTo(best <= 3000 ? (int) Math.round(best) : PharmacyPointSet.NO_PHARMACY);
+				assertThat(counts[index]).isEqualTo(count);
+				sawNoPharmacy |= nearest[index] == PharmacyPointSet.NO_PHARMACY;
+			}
+		}
+		assertThat(sawNoPharmacy).isTrue();
+	}
+
+	@Test
+	void emptySetHasNoPharmacyEverywhere() {
+		PharmacyPointSet points = PharmacyPointSet.of(new double[0], new double[0], 0, 0.005);
+		int[] nearest = new int[1];
+		int[] counts = new int[1];
+
+		points.measure(37.5, 127.0, 500, 20_000, nearest, counts, 0);
+
+		assertThat(nearest[0]).isEqualTo(PharmacyPointSet.NO_PHARMACY);
+		assertThat(counts[0]).isZero();
+	}
+}
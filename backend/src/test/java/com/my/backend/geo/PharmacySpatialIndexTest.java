@@ -0,0 +1,95 @@
+package com.my.backend.geo;
+
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.repository.PharmacyRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class PharmacySpatialIndexTest {
+
+	private final PharmacySpatialIndex index = new PharmacySpatialIndex(null, 0.01, 50);
+
+	@Test
+	void findsNearestAcrossCells() {
+		index.put(pharmacy(1L, 37.5000, 127.0000));
+		index.put(pharmacy(2L, 37.5090, 127.0000));
+		index.put(pharmacy(3L, 37.6000, 127.1000));
+
+		List<PharmacySpatialIndex.Hit> hits = index.findNearest(37.5010, 127.0000, 2, 20_000);
+
+		assertThat(hits).extracting(hit -> hit.pharmacy().id()).containsExactly(1L, 2L);
+		assertThat(hits.get(0).distanceMeters()).isCloseTo(111.2, offset(1.0));
+	}
+
+	@Test
+	void findsWithinRadiusAndTracksMovesAndDeletes() {
+		index.put(pharmacy(1L, 37.5000, 127.0000));
+		index.put(pharmacy(2L, 37.5000, 127.0200));
+
+		assertThat(index.findWithinRadius(37.5000, 127.0000, 1000, 10)).hasSize(1);
+
+		index.put(pharmacy(2L, 37.5001, 127.0001));
+		assertThat(index.findWithinRadius(37.5000, 127.0000, 1000, 10)).hasSize(2);
+
+		index.remove(1L);
+		assertThat(index.findWithinRadius(37.5000, 127.0000, 1000, 10))
+				.extracting(hit -> hit.pharmacy().id()).containsExactly(2L);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void countsOnlyRealModifications() {
+		index.put(pharmacy(1L, 37.5000, 127.0000));
+		long afterInsert = index.modificationCount();
+
+		// 같은 값으로 다시 저장하거나 없는 ID를 지우면 그대로
+		index.put(pharmacy(1L, 37.5000, 127.0000));
+		index.remove(99L);
+		assertThat(index.modificationCount()).isEqualTo(afterInsert);
+
+		// 추가 하나 + 삭제 하나: 약국 수는 같아도 변경으로 셈
+		index.put(pharmacy(2L, 37.5100, 127.0100));
+		index.remove(1L);
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.modificationCount()).isEqualTo(afterInsert + 2);
+	}
+
+	@Test
+	void rebuildSwapsInAFullIndexAndKeepsChangesMadeWhileLoading() {
+		PharmacySpatialIndex[] rebuilding = new PharmacySpatialIndex[1];
+		PharmacyRepository repository = (PharmacyRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[]{PharmacyRepository.class}, (proxy, method, args) -> {
+					if (!method.getName().equals("findAll")) {
+						throw new UnsupportedOperationException(method.getName());
+					}
+					// DB를 읽는 동안에도 기존 인덱스가 그대로 보이고, 이때 들어온 변경은 새 인덱스에 반영되어야 함
+					assertThat(rebuilding[0].size()).isEqualTo(1);
+					rebuilding[0].put(pharmacy(3L, 37.5002, 127.0002));
+					rebuilding[0].remove(2L);
+					return List.of(pharmacy(1L, 37.5000, 127.0000), pharmacy(2L, 37.5001, 127.0001));
+				});
+		PharmacySpatialIndex rebuilt = new PharmacySpatialIndex(repository, 0.01, 50);
+		rebuilding[0] = rebuilt;
+		rebuilt.put(pharmacy(9L, 37.5000, 127.0000));
+
+		rebuilt.rebuild();
+
+		assertThat(rebuilt.findWithinRadius(37.5000, 127.0000, 1000, 10))
+				.extracting(hit -> hit.pharmacy().id()).containsExactly(1L, 3L);
+	}
+
+	private static Pharmacy pharmacy(Long id, double latitude, double longitude) {
+		return Pharmacy.builder()
+				.id(id)
+				.name("약국" + id)
+				.distance(0.0)
+				.latitude(latitude)
+				.longitude(longitude)
+				.build();
+	}
+}
@@ -0,0 +1,74 @@
+package com.my.backend.importer;
+
+import com.my.backend.entity.Pharmacy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PharmacyCsvFileTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void parsesChunksAlignedToLinesAndRejectsInvalidRows() throws IOException {
+		StringBuilder csv = new StringBuilder("﻿요양기관명,주소,좌표(X),좌표(Y)\r\n");
+		for (int i = 0; i < 100; i++) {
+			csv.append("약국").append(i).append(",\"서울 강남구, 역삼동 ").append(i).append("\",127.0").append(i)
+					.append(",37.5").append(i).append("\r\n");
+		}
+		csv.append("\"큰\"\"따옴표\"\"약국\",서울 종로구,126.98,37.57\n");
+		csv.append("좌표없는약국,서울 중구,,\n");
+		Path path = write("pharmacies.csv", csv.toString());
+
+		List<Pharmacy> rows = new ArrayList<>();
+		long rejected = 0;
+		try (PharmacyCsvFile file = new PharmacyCsvFile(path)) {
+			List<PharmacyCsvFile.Chunk> chunks = file.planChunks(300);
+			assertThat(chunks).hasSizeGreaterThan(1);
+			for (PharmacyCsvFile.Chunk chunk : chunks) {
+				rejected += file.parse(chunk, rows::add).rowsRejected();
+			}
+		}
+
+		assertThat(rows).hasSize(101);
+		assertThat(rejected).isEqualTo(1);
+		assertThat(rows.get(0).getName()).isEqualTo("약국0");
+		assertThat(rows.get(0).getAddress()).isEqualTo("서울 강남구, 역삼동 0");
+		assertThat(rows.get(0).getLongitude()).isEqualTo(127.00);
+		assertThat(rows.get(0).getLatitude()).isEqualTo(37.50);
+		assertThat(rows.get(100).getName()).isEqualTo("큰\"따옴표\"약국");
+	}
+
+	@Test
+	void checkpointResumesOnlyForSameFile() throws IOException {
+		Path path = write("pharmacies.csv", "name,address,lat,lon\n약국,서울,37.5,127.0\n");
+
+		ImportCheckpoint checkpoint = ImportCheckpoint.loadOrCreate(path, 1024);
+		checkpoint.markCompleted(0);
+		checkpoint.markCompleted(2);
+
+		ImportCheckpoint resumed = ImportCheckpoint.loadOrCreate(path, 4096);
+		assertThat(resumed.getChunkBytes()).isEqualTo(1024);
+		assertThat(resumed.isCompleted(0)).isTrue();
+		assertThat(resumed.isCompleted(1)).isFalse();
+		assertThat(resumed.isCompleted(2)).isTrue();
+
+		write("pharmacies.csv", "name,address,lat,lon\n약국,서울,37.5,127.0\n약국2,서울,37.6,127.1\n");
+		ImportCheckpoint fresh = ImportCheckpoint.loadOrCreate(path, 4096);
+		assertThat(fresh.completedCount()).isZero();
+		assertThat(fresh.getChunkBytes()).isEqualTo(4096);
+	}
+
+	private Path write(String name, String content) throws IOException {
+		return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+	}
+}
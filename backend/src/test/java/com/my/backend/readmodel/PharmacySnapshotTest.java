@@ -0,0 +1,53 @@
+package com.my.backend.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PharmacySnapshotTest {
+
+	private final PharmacySnapshot snapshot = new PharmacySnapshot(1,
+			new long[]{1, 3, 5},
+			new byte[][]{row(1), row(3), row(5)});
+
+	@Test
+	void servesListAndKeysetPagesFromRowBytes() {
+		assertThat(json(snapshot.allJson())).isEqualTo("[{\"id\":1},{\"id\":3},{\"id\":5}]");
+		assertThat(json(snapshot.pageJson(null, 2))).isEqualTo("{\"items\":[{\"id\":1},{\"id\":3}],\"nextCursor\":3}");
+		assertThat(json(snapshot.pageJson(3L, 2))).isEqualTo("{\"items\":[{\"id\":5}],\"nextCursor\":null}");
+		assertThat(json(snapshot.pageJson(5L, 2))).isEqualTo("{\"items\":[],\"nextCursor\":null}");
+	}
+
+	@Test
+	void copyOnWriteLeavesPreviousSnapshotUntouched() throws IOException {
+		TreeMap<Long, byte[]> upserted = new TreeMap<>();
+		upserted.put(3L, "{\"id\":3,\"name\":\"updated\"}".getBytes(StandardCharsets.UTF_8));
+		upserted.put(4L, row(4));
+		upserted.put(9L, row(9));
+
+		PharmacySnapshot next = snapshot.withChanges(2, upserted, Set.of(1L, 9L));
+
+		assertThat(next.version()).isEqualTo(2);
+		assertThat(json(next.allJson())).isEqualTo("[{\"id\":3,\"name\":\"updated\"},{\"id\":4},{\"id\":5}]");
+		assertThat(json(snapshot.allJson())).isEqualTo("[{\"id\":1},{\"id\":3},{\"id\":5}]");
+
+		ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+		next.writeNdjson(ndjson);
+		assertThat(ndjson.toString(StandardCharsets.UTF_8))
+				.isEqualTo("{\"id\":3,\"name\":\"updated\"}\n{\"id\":4}\n{\"id\":5}\n");
+	}
+
+	private static byte[] row(long id) {
+		return ("{\"id\":" + id + "}").getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String json(byte[] bytes) {
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,72 @@
+package com.my.backend.repository;
+
+import com.my.backend.entity.Pharmacy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles({"common", "test"})
+@Import(PharmacyJdbcRepository.class)
+class PharmacyJdbcRepositoryTest {
+
+	@Autowired
+	private PharmacyJdbcRepository pharmacyJdbcRepository;
+
+	@Autowired
+	private PharmacyRepository pharmacyRepository;
+
+	@Test
+	void upsertUpdatesExistingRowsByNameAndAddress() {
+		List<Pharmacy> first = pharmacyJdbcRepository.upsertAll(List.of(
+				pharmacy("온누리약국", "서울 강남구 역삼동 737", 37.5001),
+				// 같은 이름의 체인 약국은 주소로 구분
+				pharmacy("온누리약국", "서울 강남구 삼성동 159", 37.5100)));
+		assertThat(first).hasSize(2).allSatisfy(saved -> assertThat(saved.getId()).isNotNull());
+
+		List<Pharmacy> second = pharmacyJdbcRepository.upsertAll(List.of(
+				pharmacy("온누리약국", "서울 강남구 역삼동 737", 37.5009),
+				pharmacy("행복약국", "서울 강남구 역삼동 737", 37.5002)));
+
+		assertThat(pharmacyRepository.count()).isEqualTo(3);
+		Pharmacy updated = second.stream().filter(saved -> saved.getName().equals("온누리약국")).findFirst().orElseThrow();
+		Pharmacy original = first.stream().filter(saved -> saved.getAddress().endsWith("737")).findFirst().orElseThrow();
+		assertThat(updated.getId()).isEqualTo(original.getId());
+		assertThat(updated.getLatitude()).isEqualTo(37.5009);
+		// 다시 읽을 때 이번에 넘긴 (name, address)만 돌려줌
+		assertThat(second).extracting(Pharmacy::getName).containsExactlyInAnyOrder("온누리약국", "행복약국");
+	}
+
+	@Test
+	void importKeepsDistanceOfExistingRows() {
+		pharmacyJdbcRepository.upsertAll(List.of(pharmacy("새봄약국", "부산 해운대구 우동 1411", 35.16)));
+
+		pharmacyJdbcRepository.importAll(List.of(
+				pharmacy("새봄약국", "부산 해운대구 우동 1411", 35.17),
+				pharmacy("바다약국", "부산 해운대구 중동 1", 35.18)));
+
+		Pharmacy existing = pharmacyRepository.findByNameAndAddress("새봄약국", "부산 해운대구 우동 1411").orElseThrow();
+		assertThat(existing.getLatitude()).isEqualTo(35.17);
+		assertThat(existing.getDistance()).isEqualTo(120.0);
+		assertThat(pharmacyRepository.findByNameAndAddress("바다약국", "부산 해운대구 중동 1").orElseThrow().getDistance())
+				.isZero();
+	}
+
+	private static Pharmacy pharmacy(String name, String address, double latitude) {
+		return Pharmacy.builder()
+				.name(name)
+				.address(address)
+				.distance(120.0)
+				.latitude(latitude)
+				.longitude(127.0)
+				.build();
+	}
+}
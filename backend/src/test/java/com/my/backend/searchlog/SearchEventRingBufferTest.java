@@ -0,0 +1,87 @@
+package com.my.backend.searchlog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchEventRingBufferTest {
+
+	@Test
+	void dropsWhenFullAndDrainsInOrder() {
+		SearchEventRingBuffer<Integer> buffer = new SearchEventRingBuffer<>(3);
+		assertThat(buffer.capacity()).isEqualTo(4);
+
+		for (int i = 0; i < 6; i++) {
+			buffer.offer(i);
+		}
+		assertThat(buffer.getDroppedCount()).isEqualTo(2);
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+		buffer.offer(6);
+		buffer.drainTo(drained, 10);
+		assertThat(drained).containsExactly(0, 1, 2, 3, 6);
+		assertThat(buffer.size()).isZero();
+	}
+
+	@Test
+	void keepsEveryEventFromConcurrentProducers() throws InterruptedException {
+		SearchEventRingBuffer<Integer> buffer = new SearchEventRingBuffer<>(1 << 16);
+		int producers = 4;
+		int perProducer = 10_000;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			int base = p * perProducer;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < perProducer; i++) {
+					buffer.offer(base + i);
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+
+		List<Integer> drained = new ArrayList<>();
+		while (drained.size() < producers * perProducer) {
+			buffer.drainTo(drained, 1000);
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(buffer.getDroppedCount()).isZero();
+		assertThat(drained).doesNotHaveDuplicates().hasSize(producers * perProducer);
+		// 같은 생산자가 넣은 값은 넣은 순서대로 나옴
+		int[] last = new int[producers];
+		Arrays.fill(last, -1);
+		for (int value : drained) {
+			assertThat(value).isGreaterThan(last[value / perProducer]);
+			last[value / perProducer] = value;
+		}
+	}
+
+	@Test
+	void roundTripsLogLines() {
+		SearchEvent event = new SearchEvent(1700000000000L, "서울 강남구\t역삼동", 37.5, 127.03, 1000, 3);
+
+		SearchEvent parsed = SearchEvent.parse(event.toLine());
+
+		assertThat(parsed.address()).isEqualTo("서울 강남구 역삼동");
+		assertThat(parsed.latitude()).isEqualTo(37.5);
+		assertThat(parsed.radius()).isEqualTo(1000);
+		assertThat(SearchEvent.parse(new SearchEvent(1L, "강남역", Double.NaN, Double.NaN, 500, 1).toLine()).hasOrigin()).isFalse();
+		assertThat(SearchEvent.parse("1700000000000\t37.5")).isNull();
+	}
+}
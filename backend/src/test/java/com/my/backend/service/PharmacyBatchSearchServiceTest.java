@@ -0,0 +1,74 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.BatchSearchResultDto;
+import com.my.backend.dto.OutputDto;
+import com.my.backend.dto.SearchRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PharmacyBatchSearchServiceTest {
+
+	@Test
+	void meetsDeadlineAndReportsInvalidItems() {
+		CountDownLatch release = new CountDownLatch(1);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(2));
+		try {
+			PharmacyBatchSearchService service = new PharmacyBatchSearchService(request -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return List.of();
+			}, executor, 60_000, 200);
+
+			long startedAt = System.nanoTime();
+			List<BatchSearchResultDto> results = service.searchAll(Arrays.asList(
+					request("서울 강남구"), null, request("서울 중구"), request("서울 종로구"), request("서울 마포구")));
+			long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+			// 첫 항목이 일꾼을 붙잡고 있어도 전체 기한 안에 응답, 대기열(2)을 넘친 항목은 거부
+			assertThat(elapsedMillis).isLessThan(5_000);
+			assertThat(results).extracting(BatchSearchResultDto::getStatus)
+					.containsExactly("TIMEOUT", "INVALID", "TIMEOUT", "TIMEOUT", "REJECTED");
+		} finally {
+			release.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void reportsResultsAndFailuresPerItem() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(10));
+		try {
+			PharmacyBatchSearchService service = new PharmacyBatchSearchService(request -> switch (request.getAddress()) {
+				case "서울 중구" -> List.of(OutputDto.builder().pharmacyName("중구 약국").build());
+				case "서울 종로구" -> List.of();
+				default -> throw new IllegalStateException("검색 실패");
+			}, executor, 5_000, 10_000);
+
+			List<BatchSearchResultDto> results = service.searchAll(List.of(
+					request("서울 중구"), request("서울 종로구"), request("서울 마포구")));
+
+			assertThat(results).extracting(BatchSearchResultDto::getStatus).containsExactly("OK", "EMPTY", "FAILED");
+			assertThat(results.get(0).getResults()).extracting(OutputDto::getPharmacyName).containsExactly("중구 약국");
+			assertThat(results.get(2).getError()).isEqualTo("검색 실패");
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static SearchRequestDto request(String address) {
+		SearchRequestDto request = new SearchRequestDto();
+		request.setAddress(address);
+		return request;
+	}
+}
@@ -0,0 +1,47 @@
+package com.my.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.geo.PharmacySpatialIndex;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PharmacyCoverageServiceTest {
+
+	@Test
+	void holdsPermitOnlyWhileWritingResponse() throws IOException {
+		ForkJoinPool pool = new ForkJoinPool(1);
+		try {
+			PharmacyCoverageService service = new PharmacyCoverageService(new PharmacySpatialIndex(null, 0.01, 50),
+					new ObjectMapper(), pool, 1_000_000, 20, 3000, 20_000, 65_536, 1);
+
+			// 응답 본문이 실행되지 않고 버려져도 허가가 남지 않음
+			service.prepare(37.50, 127.00, 37.51, 127.01, 100, 500);
+			PharmacyCoverageService.Analysis analysis = service.prepare(37.50, 127.00, 37.51, 127.01, 100, 500);
+
+			// 계산 중에는 다른 요청이 prepare/writeNdjson 모두에서 거절됨
+			PharmacyCoverageService.Analysis other = service.prepare(37.50, 127.00, 37.51, 127.01, 100, 500);
+			ByteArrayOutputStream out = new ByteArrayOutputStream() {
+				@Override
+				public void flush() {
+					assertThatThrownBy(() -> service.prepare(37.50, 127.00, 37.51, 127.01, 100, 500))
+							.isInstanceOf(CoverageAnalysisBusyException.class);
+					assertThatThrownBy(() -> other.writeNdjson(new ByteArrayOutputStream()))
+							.isInstanceOf(CoverageAnalysisBusyException.class);
+				}
+			};
+			analysis.writeNdjson(out);
+			assertThat(out.toString().lines()).hasSizeGreaterThan(1);
+
+			// 끝나면 반납
+			other.writeNdjson(new ByteArrayOutputStream());
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
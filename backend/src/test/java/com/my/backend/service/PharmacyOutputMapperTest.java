@@ -0,0 +1,37 @@
+package com.my.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PharmacyOutputMapperTest {
+
+	@Test
+	void formatDistanceMatchesStringFormat() {
+		Locale defaultLocale = Locale.getDefault();
+		Locale.setDefault(Locale.ROOT);
+		try {
+			double[] boundaries = {0.0, 0.005, 0.015, 1.005, 2.675, 4189.855, 99999.995,
+					15242.664999999999, 14412.494999999999, Math.nextDown(0.125), Math.nextUp(0.125)};
+			for (double distance : boundaries) {
+				assertThat(PharmacyOutputMapper.formatDistance(distance)).isEqualTo(String.format("%.2f m", distance));
+			}
+
+			Random random = new Random(13);
+			for (int i = 0; i < 200_000; i++) {
+				// 임의 값, 소수 셋째 자리에서 끝나는 값, …5 경계 바로 아래 값
+				double distance = switch (i % 3) {
+					case 0 -> random.nextDouble() * 20_000;
+					case 1 -> Math.round(random.nextDouble() * 20_000_000) / 1000.0;
+					default -> Math.nextDown(Math.round(random.nextDouble() * 2_000_000) / 100.0 + 0.005);
+				};
+				assertThat(PharmacyOutputMapper.formatDistance(distance)).isEqualTo(String.format("%.2f m", distance));
+			}
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.my.backend.service;
+
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.repository.PharmacyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"common", "test"})
+class PharmacyServiceSaveTest {
+
+	@Autowired
+	private PharmacyService pharmacyService;
+
+	@Autowired
+	private PharmacyUpsertWriter pharmacyUpsertWriter;
+
+	@Autowired
+	private PharmacyRepository pharmacyRepository;
+
+	@Test
+	void savingSearchResultThatIsAlreadyStoredUpdatesThatRow() {
+		// 검색할 때 이미 (name, address)로 저장된 약국을 검색 화면의 저장 버튼으로 다시 저장
+		Pharmacy stored = pharmacyUpsertWriter.write(List.of(pharmacy("저장버튼약국", 37.5665, 150.0))).get(0);
+
+		Pharmacy saved = pharmacyService.savePharmacy(pharmacy("저장버튼약국", 37.5666, 80.0));
+
+		assertThat(saved.getId()).isEqualTo(stored.getId());
+		Pharmacy row = pharmacyRepository.findByNameAndAddress("저장버튼약국", "서울 중구 세종대로 110").orElseThrow();
+		assertThat(row.getLatitude()).isEqualTo(37.5666);
+		assertThat(row.getDistance()).isEqualTo(80.0);
+		assertThat(pharmacyRepository.findAll())
+				.filteredOn(pharmacy -> pharmacy.getName().equals("저장버튼약국")).hasSize(1);
+	}
+
+	@Test
+	void savingNewPharmacyInsertsIt() {
+		Pharmacy saved = pharmacyService.savePharmacy(pharmacy("새약국", 37.5, 10.0));
+
+		assertThat(saved.getId()).isNotNull();
+		assertThat(pharmacyRepository.findById(saved.getId())).isPresent();
+	}
+
+	private static Pharmacy pharmacy(String name, double latitude, double distance) {
+		return Pharmacy.builder()
+				.name(name)
+				.address("서울 중구 세종대로 110")
+				.distance(distance)
+				.latitude(latitude)
+				.longitude(126.978)
+				.build();
+	}
+}
@@ -0,0 +1,119 @@
+package com.my.backend.service;
+
+import com.my.backend.client.KakaoQuotaExceededException;
+import com.my.backend.dto.DocumentDto;
+import com.my.backend.dto.OutputDto;
+import com.my.backend.dto.SearchRequestDto;
+import com.my.backend.entity.Pharmacy;
+import com.my.backend.geo.PharmacySpatialIndex;
+import com.my.backend.metrics.SearchMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PharmacyStreamSearchServiceTest {
+
+	@Test
+	void takesPermitAndFallsBackToLocalData() throws Exception {
+		SearchAdmissionLimiter limiter = new SearchAdmissionLimiter(new SimpleMeterRegistry(), 2, 1, 2, 60_000, 0.5);
+		DocumentDto cachedOrigin = DocumentDto.builder().addressName("서울 중구 세종대로 110").latitude(37.5665).longitude(126.978).build();
+		KakaoAddressSearchService addressSearch = new KakaoAddressSearchService(null, null, null) {
+			@Override
+			public CompletableFuture<DocumentDto> getAddressSearchResultAsync(String address) {
+				return CompletableFuture.failedFuture(new KakaoQuotaExceededException("quota"));
+			}
+
+			@Override
+			public DocumentDto getCachedAddressSearchResult(String address) {
+				return "캐시 주소".equals(address) ? cachedOrigin : null;
+			}
+		};
+		PharmacySpatialIndex spatialIndex = new PharmacySpatialIndex(null, 0.01, 50);
+		spatialIndex.put(Pharmacy.builder().id(1L).name("로컬 약국").distance(0.0).latitude(37.5666).longitude(126.9781).build());
+		SearchMetrics metrics = new SearchMetrics(new SimpleMeterRegistry());
+		PharmacyLocalSearch localSearch = new PharmacyLocalSearch(spatialIndex, null, metrics);
+		ExecutorService writerExecutor = Executors.newSingleThreadExecutor();
+		try {
+			PharmacyStreamSearchService service = new PharmacyStreamSearchService(localSearch, addressSearch, null, null,
+					metrics, limiter, null, writerExecutor, 3, 3, 45);
+			List<String> events = new CopyOnWriteArrayList<>();
+			PharmacyStreamSearchService.Listener listener = new PharmacyStreamSearchService.Listener() {
+				@Override
+				public void onOrigin(DocumentDto origin) {
+					events.add("origin");
+				}
+
+				@Override
+				public void onResult(OutputDto result) {
+					events.add(result.getPharmacyName());
+				}
+			};
+
+			// 주소 검색에서 카카오 예산 초과: 캐시된 좌표 + 로컬 인덱스로 응답하고, 한도를 줄이며 Permit 반납
+			assertThat(service.search(request("캐시 주소"), listener, new AtomicBoolean()).get(5, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(events).containsExactly("origin", "로컬 약국");
+			assertThat(limiter.getInFlight()).isZero();
+			assertThat(limiter.getLimit()).isEqualTo(1);
+
+			// 캐시된 좌표도 없으면 SearchUnavailableException
+			assertThatThrownBy(() -> service.search(request("모르는 주소"), listener, new AtomicBoolean()).get(5, TimeUnit.SECONDS))
+					.hasCauseInstanceOf(SearchUnavailableException.class);
+			assertThat(limiter.getInFlight()).isZero();
+
+			// 한도가 가득 차 있으면 카카오를 부르지 않고 로컬 데이터로 응답
+			SearchAdmissionLimiter.Permit held = limiter.tryAcquire();
+			events.clear();
+			assertThat(service.search(request("캐시 주소"), listener, new AtomicBoolean()).get(5, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(events).containsExactly("origin", "로컬 약국");
+			held.release(false);
+		} finally {
+			writerExecutor.shutdown();
+		}
+	}
+
+	@Test
+	void cancelledSearchStillStopsItsTimer() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		SearchMetrics metrics = new SearchMetrics(registry);
+		SearchAdmissionLimiter limiter = new SearchAdmissionLimiter(new SimpleMeterRegistry(), 2, 1, 2, 60_000, 0.5);
+		ExecutorService writerExecutor = Executors.newSingleThreadExecutor();
+		try {
+			PharmacyStreamSearchService service = new PharmacyStreamSearchService(null, null, null, null,
+					metrics, limiter, null, writerExecutor, 3, 3, 45);
+			SearchRequestDto request = request("서울 중구 세종대로 110");
+			request.setLatitude(37.5665);
+			request.setLongitude(126.978);
+			PharmacyStreamSearchService.Listener listener = new PharmacyStreamSearchService.Listener() {
+				@Override
+				public void onOrigin(DocumentDto origin) {
+				}
+
+				@Override
+				public void onResult(OutputDto result) {
+				}
+			};
+
+			assertThat(service.search(request, listener, new AtomicBoolean(true)).get(5, TimeUnit.SECONDS)).isZero();
+			assertThat(registry.get("pharmacy.search").tag("source", "cancelled").timer().count()).isEqualTo(1);
+			assertThat(limiter.getInFlight()).isZero();
+		} finally {
+			writerExecutor.shutdown();
+		}
+	}
+
+	private static SearchRequestDto request(String address) {
+		SearchRequestDto request = new SearchRequestDto();
+		request.setAddress(address);
+		return request;
+	}
+}
@@ -0,0 +1,36 @@
+package com.my.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchAdmissionLimiterTest {
+
+	@Test
+	void rejectsOverLimitAndAdjustsLimitFromLatency() {
+		SearchAdmissionLimiter limiter = new SearchAdmissionLimiter(new SimpleMeterRegistry(), 4, 2, 10, 60_000, 0.5);
+
+		List<SearchAdmissionLimiter.Permit> permits = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			permits.add(limiter.tryAcquire());
+		}
+		assertThat(permits).doesNotContainNull();
+		assertThat(limiter.tryAcquire()).isNull();
+
+		// 한도를 다 쓰는 중에 목표 지연 안에 끝나면 +1
+		permits.get(0).release(false);
+		assertThat(limiter.getLimit()).isEqualTo(5);
+		assertThat(limiter.getInFlight()).isEqualTo(3);
+
+		// 과부하로 실패하면 절반으로 (최소 2), 같은 Permit을 두 번 반납해도 한 번만 반영
+		permits.get(1).release(true);
+		permits.get(1).release(true);
+		assertThat(limiter.getLimit()).isEqualTo(2);
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+		assertThat(limiter.tryAcquire()).isNull();
+	}
+}
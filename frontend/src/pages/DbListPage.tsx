@@ -1,18 +1,43 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { pharmacyApi, Pharmacy } from '../services/api';
 
+// 스트리밍 중 화면 갱신 간격 (이 시간이 지났거나 받은 행 수가 지난 갱신의 두 배가 되면 갱신)
+const FLUSH_INTERVAL_MS = 300;
+
 const DbListPage: React.FC = () => {
   const [pharmacies, setPharmacies] = useState<Pharmacy[]>([]);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
+  // 진행 중인 스트리밍이 받은 행 (새로 불러오면 바뀌므로, 이전 스트림의 행은 버림)
+  const loadedRef = useRef<Pharmacy[]>([]);
 
-  // 약국 목록 불러오기
+  // 약국 목록 불러오기 (스트리밍: 도착한 행부터 바로 표시)
+  // 묶음마다 상태 배열을 이어 붙이면 전체 복사가 반복되므로(O(n²)), ref에 모아 두고 가끔씩만 상태에 반영
   const fetchPharmacies = async () => {
+    const loaded: Pharmacy[] = [];
+    loadedRef.current = loaded;
+    let flushedCount = 0;
+    let flushedAt = 0;
+    const flush = () => {
+      if (loadedRef.current !== loaded || loaded.length === flushedCount) return;
+      flushedCount = loaded.length;
+      flushedAt = Date.now();
+      setPharmacies(loaded.slice());
+      setLoading(false);
+    };
+
     setLoading(true);
     setError(null);
+    setPharmacies([]);
     try {
-      const response = await pharmacyApi.getAllPharmacies();
-      setPharmacies(response.data);
+      await pharmacyApi.streamAllPharmacies((rows) => {
+        if (loadedRef.current !== loaded) return;
+        loaded.push(...rows);
+        if (flushedCount === 0 || loaded.length >= flushedCount * 2 || Date.now() - flushedAt >= FLUSH_INTERVAL_MS) {
+          flush();
+        }
+      });
+      flush();
     } catch (err) {
       setError('저장된 약국 목록을 불러오는데 실패했습니다.');
       console.error(err);
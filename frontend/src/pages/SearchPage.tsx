@@ -1,5 +1,5 @@
 import React, { useState, useEffect, useCallback } from 'react';
-import { pharmacyApi, OutputDto, SearchRequestDto } from '../services/api';
+import { pharmacyApi, OutputDto, SearchRequestDto, AddressSuggestion } from '../services/api';
 
 // [NOTE] 카카오 지도 API를 동적으로 로드하고 지오코딩을 수행하는 컴포넌트
 interface KakaoMapProps {
@@ -144,6 +144,34 @@ const SearchPage: React.FC = () => {
     const [loading, setLoading] = useState(false);
     const [error, setError] = useState<string | null>(null);
     const [searchAddress, setSearchAddress] = useState('서울특별시 강남구 테헤란로 405'); // 예시 주소
+    // 자동완성 목록과, 목록에서 고른 주소의 좌표 (직접 고치면 지움)
+    const [suggestions, setSuggestions] = useState<AddressSuggestion[]>([]);
+    const [selectedOrigin, setSelectedOrigin] = useState<AddressSuggestion | null>(null);
+
+    // 입력이 멈추면(150ms) 자동완성 요청, 늦게 도착한 이전 응답은 버림
+    useEffect(() => {
+        const query = searchAddress.trim();
+        if (!query || selectedOrigin?.address === searchAddress) {
+            setSuggestions([]);
+            return;
+        }
+        let stale = false;
+        const timer = setTimeout(() => {
+            pharmacyApi.getAddressSuggestions(query)
+                .then((response) => { if (!stale) setSuggestions(response.data); })
+                .catch(() => { if (!stale) setSuggestions([]); });
+        }, 150);
+        return () => {
+            stale = true;
+            clearTimeout(timer);
+        };
+    }, [searchAddress, selectedOrigin]);
+
+    const handleSelectSuggestion = (suggestion: AddressSuggestion) => {
+        setSelectedOrigin(suggestion);
+        setSearchAddress(suggestion.address);
+        setSuggestions([]);
+    };
 
     // 주소 검색 및 DB 일괄 저장 (searchAndSavePharmacies)
     const handleSearch = async (e: React.FormEvent) => {
@@ -151,15 +179,20 @@ const SearchPage: React.FC = () => {
         setLoading(true);
         setError(null);
         setSearchResults([]);
+        setSuggestions([]);
 
         try {
             const request: SearchRequestDto = { address: searchAddress };
+            if (selectedOrigin?.address === searchAddress) {
+                request.latitude = selectedOrigin.latitude;
+                request.longitude = selectedOrigin.longitude;
+            }
             
-            // 1. 서버에 검색 요청 (이때 서버는 검색 후 DB에 저장까지 완료)
-            const response = await pharmacyApi.searchAndSavePharmacies(request);
-            setSearchResults(response.data); 
-            
-            alert(`[${searchAddress}] 주변 약국 ${response.data.length}곳 검색 완료 및 DB에 저장되었습니다!`);
+            // 1. 서버에 스트리밍 검색 요청: 전체 응답을 기다리지 않고 찾는 대로 목록에 추가 (DB 저장은 서버에서 비동기로 진행)
+            const count = await pharmacyApi.streamSearchPharmacies(request, (result) =>
+                setSearchResults((previous) => [...previous, result]));
+
+            alert(`[${searchAddress}] 주변 약국 ${count}곳 검색 완료! (DB 저장은 서버에서 이어서 진행됩니다)`);
 
         } catch (err) {
             setError('주소 검색 및 약국 저장에 실패했습니다. (API 키/백엔드 엔드포인트 확인 필요)');
@@ -178,16 +211,13 @@ const SearchPage: React.FC = () => {
             // 거리 문자열 "150.00 m" -> 숫자 150.00으로 변환
             const distanceValue = parseFloat(result.distance.split(' ')[0]);
             
-            // [!!! API 수정 필요 지점 !!!]
-            // OutputDto에 위도/경도 필드가 없으므로, 현재는 임의의 좌표 (0,0)을 넣어 컴파일 에러를 막습니다. 
-            // 실제로는 백엔드 API를 수정하여 위도/경도 정보를 프론트로 받아와야 합니다.
-            
+            // 검색 결과의 좌표를 그대로 저장 (같은 이름/주소 약국이 이미 있으면 서버가 그 행을 갱신)
             const pharmacyData = {
                 name: result.pharmacyName,
                 address: result.pharmacyAddress,
                 distance: distanceValue,
-                latitude: 0.0, 
-                longitude: 0.0, 
+                latitude: result.latitude,
+                longitude: result.longitude,
             };
 
             await pharmacyApi.savePharmacyFromOutput(pharmacyData);
@@ -213,10 +243,14 @@ const SearchPage: React.FC = () => {
                     <input
                         type="text"
                         value={searchAddress}
-                        onChange={(e) => setSearchAddress(e.target.value)}
+                        onChange={(e) => {
+                            setSearchAddress(e.target.value);
+                            setSelectedOrigin(null);
+                        }}
                         placeholder="주소를 입력하거나 지도에서 선택하세요"
                         required
                         disabled={loading}
+                        autoComplete="off"
                     />
                     <button type="submit" disabled={loading}>
                         {loading ? '검색 중...' : '검색'}
@@ -225,6 +259,17 @@ const SearchPage: React.FC = () => {
                         현재 위치
                     </button>
                 </form>
+                {suggestions.length > 0 && (
+                    <ul className="suggestion-list">
+                        {suggestions.map((suggestion) => (
+                            <li key={suggestion.address}>
+                                <button type="button" onClick={() => handleSelectSuggestion(suggestion)}>
+                                    {suggestion.address}
+                                </button>
+                            </li>
+                        ))}
+                    </ul>
+                )}
 
                 {/* 지도 구역 (아래쪽) - KakaoMap 컴포넌트로 변경됨 */}
                 <KakaoMap searchAddress={searchAddress} searchResults={searchResults} />
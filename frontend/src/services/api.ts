@@ -16,6 +16,17 @@ export interface OutputDto {
 // 백엔드에 주소 검색 요청 시 사용하는 DTO
 export interface SearchRequestDto {
   address: string;
+  distance?: number; // 검색 반경 (km, 기본 1km)
+  count?: number; // 반환할 약국 개수 (기본 3개)
+  latitude?: number; // 자동완성에서 고른 주소의 좌표 (있으면 서버가 주소 검색을 생략)
+  longitude?: number;
+}
+
+// 주소 자동완성 항목
+export interface AddressSuggestion {
+  address: string;
+  latitude: number;
+  longitude: number;
 }
 // -------------------------
 
@@ -28,6 +39,12 @@ export interface Pharmacy {
   address?: string;
 }
 
+// 키셋 페이지 응답
+export interface PharmacyPage {
+  items: Pharmacy[];
+  nextCursor: number | null;
+}
+
 const api = axios.create({
   baseURL: `${API_BASE_URL}/api/pharmacies`,
   headers: {
@@ -44,9 +61,41 @@ export const pharmacyApi = {
   getAllPharmacies: (): Promise<AxiosResponse<Pharmacy[]>> =>
     api.get<Pharmacy[]>(''),
 
-  // 특정 거리 이내 약국 조회
-  getNearbyPharmacies: (distance: number): Promise<AxiosResponse<Pharmacy[]>> =>
-    api.get<Pharmacy[]>('/nearby', { params: { distance } }),
+  // 키셋 페이지 조회 (cursor: 이전 응답의 nextCursor)
+  getPharmacyPage: (cursor?: number | null, size = 100): Promise<AxiosResponse<PharmacyPage>> =>
+    api.get<PharmacyPage>('/page', { params: { cursor: cursor ?? undefined, size } }),
+
+  // NDJSON 스트리밍 조회: 도착한 행을 묶음 단위로 onRows에 전달 (첫 행부터 바로 렌더링 가능)
+  streamAllPharmacies: async (onRows: (rows: Pharmacy[]) => void): Promise<void> => {
+    const response = await fetch(`${API_BASE_URL}/api/pharmacies/stream`, {
+      headers: { Accept: 'application/x-ndjson' },
+    });
+    if (!response.ok || !response.body) {
+      throw new Error(`스트리밍 조회 실패: ${response.status}`);
+    }
+
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffered = '';
+    for (;;) {
+      const { done, value } = await reader.read();
+      if (done) break;
+      buffered += decoder.decode(value, { stream: true });
+      const lines = buffered.split('\n');
+      buffered = lines.pop() ?? '';
+      const rows = lines.filter((line) => line.trim()).map((line) => JSON.parse(line) as Pharmacy);
+      if (rows.length > 0) onRows(rows);
+    }
+    if (buffered.trim()) onRows([JSON.parse(buffered) as Pharmacy]);
+  },
+
+  // 좌표 기준 반경(m) 이내 저장된 약국 조회 (가까운 순)
+  getNearbyPharmacies: (latitude: number, longitude: number, radius = 1000, limit = 10): Promise<AxiosResponse<OutputDto[]>> =>
+    api.get<OutputDto[]>('/nearby', { params: { latitude, longitude, radius, limit } }),
+
+  // 주소 자동완성 (이미 좌표를 아는 주소만, 입력할 때마다 호출)
+  getAddressSuggestions: (q: string, limit = 8): Promise<AxiosResponse<AddressSuggestion[]>> =>
+    api.get<AddressSuggestion[]>('/autocomplete', { params: { q, limit } }),
 
   // 약국 상세 조회
   getPharmacy: (id: number): Promise<AxiosResponse<Pharmacy>> =>
@@ -65,6 +114,30 @@ export const pharmacyApi = {
   searchAndSavePharmacies: (request: SearchRequestDto): Promise<AxiosResponse<OutputDto[]>> =>
     api.post<OutputDto[]>('/search', request),
 
+  // 주소 검색 스트리밍 (SSE): 찾는 대로 onResult에 하나씩 전달하고, 끝나면 보낸 개수로 resolve
+  streamSearchPharmacies: (request: SearchRequestDto, onResult: (result: OutputDto) => void): Promise<number> =>
+    new Promise((resolve, reject) => {
+      const params = new URLSearchParams({ address: request.address });
+      if (request.distance !== undefined) params.set('distance', String(request.distance));
+      if (request.count !== undefined) params.set('count', String(request.count));
+      if (request.latitude !== undefined && request.longitude !== undefined) {
+        params.set('latitude', String(request.latitude));
+        params.set('longitude', String(request.longitude));
+      }
+      const source = new EventSource(`${API_BASE_URL}/api/pharmacies/search/stream?${params}`);
+
+      source.addEventListener('result', (event) => onResult(JSON.parse((event as MessageEvent).data) as OutputDto));
+      source.addEventListener('done', (event) => {
+        source.close();
+        resolve(Number((event as MessageEvent).data));
+      });
+      // 서버가 보낸 error 이벤트와 연결 오류 모두 여기로 옴 (자동 재연결하지 않도록 닫음)
+      source.addEventListener('error', (event) => {
+        source.close();
+        reject(new Error((event as MessageEvent).data ?? '스트리밍 검색 연결 오류'));
+      });
+    }),
+
   // --- [SearchPage.tsx에서 누락되어 있던 핵심 함수 2] ---
   // 개별 약국 저장 (OutputDto -> Pharmacy 변환된 데이터를 DB에 저장)
   savePharmacyFromOutput: (pharmacy: Omit<Pharmacy, 'id'>): Promise<AxiosResponse<Pharmacy>> =>